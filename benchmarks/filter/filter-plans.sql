@@ -0,0 +1,106 @@
+-- Plans d'exécution des combinaisons de filtres de GET /api/tasks sur ~1M de tâches.
+--
+-- Pré-requis : base migrée par Flyway (V1 à V7), par exemple via docker-compose.
+--   psql -h localhost -U taskflow_user -d taskflow -f benchmarks/filter/filter-plans.sql
+--
+-- Les requêtes reproduisent le SQL généré par TaskFilterQuery : un prédicat par critère
+-- renseigné, tri created_at DESC, LIMIT 10. Chaque plan doit utiliser un index
+-- (Index Scan / Bitmap Index Scan / Nested Loop sur idx_task_assignments_user_task),
+-- jamais un Seq Scan sur tasks.
+
+\timing on
+\set ON_ERROR_STOP on
+
+-- 1. Jeu de données ---------------------------------------------------------
+INSERT INTO users (email, username, password, role)
+SELECT 'filter' || g || '@example.com', 'filter' || g, 'x', 'USER'
+FROM generate_series(1, 1000) AS g
+ON CONFLICT (email) DO NOTHING;
+
+CREATE TEMP TABLE filter_users AS
+SELECT id, row_number() OVER (ORDER BY id) AS n FROM users WHERE email LIKE 'filter%@example.com';
+
+INSERT INTO tasks (title, description, status, priority, due_date, creator_id)
+SELECT
+    'Filtre #' || g,
+    md5(g::text),
+    (ARRAY['TODO', 'IN_PROGRESS', 'DONE', 'CANCELLED'])[1 + g % 4],
+    (ARRAY['LOW', 'MEDIUM', 'HIGH', 'URGENT'])[1 + (g / 4) % 4],
+    CASE WHEN g % 3 = 0 THEN NULL ELSE TIMESTAMP '2030-01-01' + (g % 365) * INTERVAL '1 day' END,
+    (SELECT id FROM filter_users WHERE n = 1 + g % 1000)
+FROM generate_series(1, 1000000) AS g;
+
+INSERT INTO task_assignments (task_id, user_id)
+SELECT t.id, u.id
+FROM tasks t
+JOIN filter_users u ON u.n IN (1 + t.id % 1000, 1 + (t.id * 7) % 1000)
+WHERE t.title LIKE 'Filtre #%'
+ON CONFLICT DO NOTHING;
+
+VACUUM ANALYZE tasks;
+VACUUM ANALYZE task_assignments;
+
+\set user_a '(SELECT id FROM filter_users WHERE n = 42)'
+\set user_b '(SELECT id FROM filter_users WHERE n = 295)'
+
+-- 2. Statut seul ------------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.status = 'IN_PROGRESS'
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+-- 3. Statut + priorité -------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.status = 'TODO' AND t.priority = 'URGENT'
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks t
+WHERE t.status = 'TODO' AND t.priority = 'URGENT';
+
+-- 4. Créateur + statut -------------------------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.creator_id = :user_a AND t.status = 'DONE'
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+-- 5. Intervalle d'échéance + priorité ---------------------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.priority = 'HIGH'
+  AND t.due_date >= TIMESTAMP '2030-03-01' AND t.due_date <= TIMESTAMP '2030-03-07'
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+-- 6. Un utilisateur assigné parmi plusieurs (ANY) ----------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE EXISTS (
+    SELECT 1 FROM tasks a JOIN task_assignments au ON au.task_id = a.id
+    WHERE a.id = t.id AND au.user_id IN (:user_a, :user_b)
+)
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+-- 7. Tous les utilisateurs assignés (ALL) + statut ---------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.status = 'TODO'
+  AND EXISTS (
+    SELECT 1 FROM tasks a JOIN task_assignments au ON au.task_id = a.id
+    WHERE a.id = t.id AND au.user_id = :user_a
+  )
+  AND EXISTS (
+    SELECT 1 FROM tasks a JOIN task_assignments au ON au.task_id = a.id
+    WHERE a.id = t.id AND au.user_id = :user_b
+  )
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+-- 8. Nettoyage ---------------------------------------------------------------
+-- DELETE FROM tasks WHERE title LIKE 'Filtre #%';
+-- DELETE FROM users WHERE email LIKE 'filter%@example.com';
@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Banc d'essai de l'import massif (COPY) sur ~1M de tâches.
+#
+# Pré-requis : application démarrée sur une base PostgreSQL locale (docker-compose),
+# jq et awk installés. Usage :
+#   benchmarks/import/import-1m.sh [nombre_de_lignes] [url]
+#
+# Le rapport renvoyé par l'API contient le débit mesuré côté serveur (rowsPerSecond),
+# entre la première ligne lue et le dernier lot validé.
+
+set -euo pipefail
+
+ROWS=${1:-1000000}
+BASE_URL=${2:-http://localhost:8081}
+FILE=$(mktemp --suffix=.ndjson)
+trap 'rm -f "$FILE"' EXIT
+
+awk -v rows="$ROWS" 'BEGIN {
+    split("TODO IN_PROGRESS DONE CANCELLED", statuses, " ");
+    split("LOW MEDIUM HIGH URGENT", priorities, " ");
+    for (i = 1; i <= rows; i++) {
+        printf "{\"title\":\"Tâche importée #%d\",\"description\":\"Description %d\",\"status\":\"%s\",\"priority\":\"%s\",\"creatorEmail\":\"admin@taskflow.com\",\"assigneeEmails\":[\"john.doe@taskflow.com\"]}\n",
+            i, i, statuses[1 + i % 4], priorities[1 + i % 4];
+    }
+}' > "$FILE"
+
+TOKEN=$(curl -sf -X POST "$BASE_URL/api/auth/login" \
+    -H "Content-Type: application/json" \
+    -d '{"email":"admin@taskflow.com","password":"admin123"}' | jq -r .token)
+
+curl -sf -X POST "$BASE_URL/api/tasks/import?format=ndjson" \
+    -H "Authorization: Bearer $TOKEN" \
+    -H "Content-Type: application/x-ndjson" \
+    --data-binary "@$FILE" \
+    | jq '{totalRows, imported, failed, durationMillis, rowsPerSecond}'
@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Compare le mode threads plateforme et le mode threads virtuels à 1k et 5k clients.
+#
+# Pré-requis : docker compose, k6 et jq. Les résumés k6 sont écrits dans
+# benchmarks/load/results/<mode>-<clients>.json, puis un tableau récapitulatif
+# (débit, latences p95/p99, taux d'erreur) est affiché.
+#
+#   benchmarks/load/compare-modes.sh            # 1000 et 5000 clients
+#   CLIENTS="500 2000" HOLD=1m benchmarks/load/compare-modes.sh
+
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+CLIENTS=${CLIENTS:-"1000 5000"}
+RESULTS=benchmarks/load/results
+mkdir -p "$RESULTS"
+
+wait_for_api() {
+    for _ in $(seq 1 60); do
+        if curl -sf -o /dev/null -X POST http://localhost:8081/api/auth/login \
+            -H "Content-Type: application/json" \
+            -d '{"email":"admin@taskflow.com","password":"admin123"}'; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "L'API ne répond pas" >&2
+    exit 1
+}
+
+for mode in platform virtual; do
+    virtual=$([ "$mode" = virtual ] && echo true || echo false)
+    VIRTUAL_THREADS=$virtual RATE_LIMIT_ENABLED=false docker compose up -d --build --force-recreate api
+    wait_for_api
+
+    for clients in $CLIENTS; do
+        k6 run --quiet -e VUS="$clients" -e HOLD="${HOLD:-2m}" \
+            --summary-export "$RESULTS/$mode-$clients.json" \
+            benchmarks/load/tasks.js
+    done
+done
+
+printf '%-9s %8s %10s %10s %10s %8s\n' mode clients 'req/s' 'p95 (ms)' 'p99 (ms)' erreurs
+for clients in $CLIENTS; do
+    for mode in platform virtual; do
+        jq -r --arg mode "$mode" --arg clients "$clients" \
+            '[$mode, $clients,
+              (.metrics.http_reqs.rate | floor),
+              (.metrics.http_req_duration["p(95)"] | floor),
+              (.metrics.http_req_duration["p(99)"] | floor),
+              ((.metrics.http_req_failed.value * 10000 | floor) / 100 | tostring + " %")] | @tsv' \
+            "$RESULTS/$mode-$clients.json" \
+            | awk -F'\t' '{ printf "%-9s %8s %10s %10s %10s %8s\n", $1, $2, $3, $4, $5, $6 }'
+    done
+done
@@ -0,0 +1,86 @@
+// Latence des routes de tâches pendant un afflux de connexions (k6).
+//
+//   RATE_LIMIT_ENABLED=false docker compose up -d --build api
+//   k6 run -e BASE_URL=http://localhost:8081 benchmarks/load/login-storm.js
+//
+// Un flux constant de lectures (liste + détail, TASK_RATE itérations/s) tourne seul pendant
+// PHASE, puis pendant PHASE encore avec LOGIN_RATE connexions/s en parallèle. Les seuils
+// comparent les deux phases : p95 des lectures sous afflux au plus MAX_P95_MS, et les
+// connexions en trop sont rejetées (503) au lieu d'occuper tous les threads.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const PHASE = __ENV.PHASE || '1m';
+const TASK_RATE = parseInt(__ENV.TASK_RATE || '500', 10);
+const LOGIN_RATE = parseInt(__ENV.LOGIN_RATE || '1000', 10);
+const MAX_P95_MS = parseInt(__ENV.MAX_P95_MS || '200', 10);
+const CREDENTIALS = JSON.stringify({ email: 'admin@taskflow.com', password: 'admin123' });
+
+function reads(startTime) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec: 'readTasks',
+        rate: TASK_RATE,
+        timeUnit: '1s',
+        duration: PHASE,
+        startTime,
+        preAllocatedVUs: 200,
+        maxVUs: 2000,
+    };
+}
+
+export const options = {
+    scenarios: {
+        tasks_baseline: reads('0s'),
+        tasks_storm: reads(PHASE),
+        login_storm: {
+            executor: 'constant-arrival-rate',
+            exec: 'login',
+            rate: LOGIN_RATE,
+            timeUnit: '1s',
+            duration: PHASE,
+            startTime: PHASE,
+            preAllocatedVUs: 500,
+            maxVUs: 5000,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:tasks_baseline}': [`p(95)<${MAX_P95_MS}`],
+        'http_req_duration{scenario:tasks_storm}': [`p(95)<${MAX_P95_MS}`],
+        'http_req_failed{scenario:tasks_storm}': ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/auth/login`, CREDENTIALS, { headers: JSON_HEADERS });
+    check(response, { 'login 200': (r) => r.status === 200 });
+    return { token: response.json('token') };
+}
+
+export function readTasks(data) {
+    const headers = { Authorization: `Bearer ${data.token}` };
+
+    const page = http.get(`${BASE_URL}/api/tasks?page=${__ITER % 20}&size=20`, { headers, tags: { name: 'list' } });
+    check(page, { 'list 200': (r) => r.status === 200 });
+
+    const content = page.status === 200 ? page.json('content') : [];
+    if (content.length > 0) {
+        const task = http.get(`${BASE_URL}/api/tasks/${content[0].id}`, { headers, tags: { name: 'get' } });
+        check(task, { 'get 200': (r) => r.status === 200 });
+    }
+}
+
+export function login() {
+    const response = http.post(`${BASE_URL}/api/auth/login`, CREDENTIALS, {
+        headers: JSON_HEADERS,
+        tags: { name: 'login' },
+        // 503 = file de hachage pleine : rejet attendu sous afflux
+        responseCallback: http.expectedStatuses(200, 503),
+    });
+    check(response, { 'login 200 ou 503': (r) => r.status === 200 || r.status === 503 });
+}
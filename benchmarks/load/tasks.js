@@ -0,0 +1,63 @@
+// Charge mixte sur l'API des tâches (k6).
+//
+//   k6 run -e VUS=1000 -e BASE_URL=http://localhost:8081 benchmarks/load/tasks.js
+//
+// Chaque client virtuel enchaîne sans pause : liste paginée, lecture d'une tâche,
+// et une création toutes les WRITE_EVERY itérations. LOGIN_EVERY > 0 ajoute une
+// connexion (BCrypt) toutes les LOGIN_EVERY itérations.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const WRITE_EVERY = parseInt(__ENV.WRITE_EVERY || '10', 10);
+const LOGIN_EVERY = parseInt(__ENV.LOGIN_EVERY || '0', 10);
+const CREDENTIALS = JSON.stringify({ email: 'admin@taskflow.com', password: 'admin123' });
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: __ENV.RAMP || '30s', target: VUS },
+                { duration: __ENV.HOLD || '2m', target: VUS },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export function setup() {
+    const response = http.post(`${BASE_URL}/api/auth/login`, CREDENTIALS, { headers: JSON_HEADERS });
+    check(response, { 'login 200': (r) => r.status === 200 });
+    return { token: response.json('token') };
+}
+
+export default function (data) {
+    const headers = { ...JSON_HEADERS, Authorization: `Bearer ${data.token}` };
+
+    const page = http.get(`${BASE_URL}/api/tasks?page=${__ITER % 20}&size=20`, { headers, tags: { name: 'list' } });
+    check(page, { 'list 200': (r) => r.status === 200 });
+
+    const content = page.status === 200 ? page.json('content') : [];
+    if (content.length > 0) {
+        const task = http.get(`${BASE_URL}/api/tasks/${content[0].id}`, { headers, tags: { name: 'get' } });
+        check(task, { 'get 200': (r) => r.status === 200 });
+    }
+
+    if (WRITE_EVERY > 0 && __ITER % WRITE_EVERY === 0) {
+        const body = JSON.stringify({ title: `Charge VU ${__VU} #${__ITER}`, priority: 'LOW' });
+        const created = http.post(`${BASE_URL}/api/tasks`, body, { headers, tags: { name: 'create' } });
+        check(created, { 'create 201': (r) => r.status === 201 });
+    }
+
+    if (LOGIN_EVERY > 0 && __ITER % LOGIN_EVERY === 0) {
+        const login = http.post(`${BASE_URL}/api/auth/login`, CREDENTIALS, { headers: JSON_HEADERS, tags: { name: 'login' } });
+        check(login, { 'login 200': (r) => r.status === 200 });
+    }
+}
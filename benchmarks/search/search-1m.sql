@@ -0,0 +1,70 @@
+-- Banc d'essai de la recherche plein texte sur ~1M de tâches.
+--
+-- Pré-requis : base migrée par Flyway (V1 à V4), par exemple via docker-compose.
+--   psql -h localhost -U taskflow_user -d taskflow -f benchmarks/search/search-1m.sql
+--
+-- Chaque requête est exécutée avec EXPLAIN (ANALYZE, BUFFERS) : comparer le plan
+-- (Seq Scan vs Bitmap Index Scan) et le temps d'exécution. Les requêtes « fts_* »
+-- reproduisent le SQL généré par TaskRepositoryCustomImpl.searchByKeyword.
+
+\timing on
+\set ON_ERROR_STOP on
+
+-- 1. Jeu de données ---------------------------------------------------------
+INSERT INTO tasks (title, description, status, priority, creator_id)
+SELECT
+    (ARRAY['Préparer', 'Corriger', 'Déployer', 'Documenter', 'Tester', 'Analyser'])[1 + g % 6]
+        || ' ' ||
+    (ARRAY['API', 'base de données', 'interface', 'rapport', 'sprint', 'facturation', 'migration'])[1 + (g / 6) % 7]
+        || ' #' || g,
+    repeat('Lorem ipsum dolor sit amet consectetur adipiscing elit ', 1 + g % 5) || md5(g::text),
+    (ARRAY['TODO', 'IN_PROGRESS', 'DONE', 'CANCELLED'])[1 + g % 4],
+    (ARRAY['LOW', 'MEDIUM', 'HIGH', 'URGENT'])[1 + g % 4],
+    (SELECT min(id) FROM users)
+FROM generate_series(1, 1000000) AS g;
+
+VACUUM ANALYZE tasks;
+
+-- 2. Ancienne implémentation (LIKE '%mot%') : parcours séquentiel complet ---
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE lower(t.title) LIKE '%facturation%' OR lower(t.description) LIKE '%facturation%'
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks t
+WHERE lower(t.title) LIKE '%424242%' OR lower(t.description) LIKE '%424242%';
+
+-- 3. Plein texte, terme fréquent (~1/7 des lignes) --------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.id IN (SELECT s.id FROM tasks s WHERE s.search_vector @@ to_tsquery('simple', 'facturation:*'))
+ORDER BY (SELECT ts_rank_cd(s.search_vector, to_tsquery('simple', 'facturation:*')) FROM tasks s WHERE s.id = t.id) DESC,
+         t.created_at DESC
+LIMIT 10;
+
+-- 4. Plein texte, terme rare : le coût suit le nombre de correspondances ----
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.id IN (SELECT s.id FROM tasks s WHERE s.search_vector @@ to_tsquery('simple', '424242:*'))
+ORDER BY (SELECT ts_rank_cd(s.search_vector, to_tsquery('simple', '424242:*')) FROM tasks s WHERE s.id = t.id) DESC,
+         t.created_at DESC
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM tasks t
+WHERE t.id IN (SELECT s.id FROM tasks s WHERE s.search_vector @@ to_tsquery('simple', '424242:*'));
+
+-- 5. Repli trigramme (fragment au milieu d'un mot) ---------------------------
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT t.* FROM tasks t
+WHERE t.id IN (
+    SELECT s.id FROM tasks s
+    WHERE (coalesce(s.title, '') || ' ' || coalesce(s.description, '')) ILIKE '%' || substr(md5('424242'), 9, 10) || '%'
+)
+ORDER BY t.created_at DESC
+LIMIT 10;
+
+-- 6. Nettoyage ---------------------------------------------------------------
+-- DELETE FROM tasks WHERE title ~ ' #[0-9]+$';
@@ -0,0 +1,87 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.UserRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Jeux de données partagés par les benchmarks : aucune base ni contexte Spring n'est démarré.
+ */
+final class BenchmarkData {
+    
+    static final String SECRET = "dGFza2Zsb3ctc2VjcmV0LWtleS1mb3ItcHJvZHVjdGlvbi11c2UtMjU2LWJpdHMtbWluaW11bQ==";
+    static final String EMAIL = "bench@taskflow.com";
+    
+    private BenchmarkData() {
+    }
+    
+    static User user(long id) {
+        return User.builder()
+            .id(id)
+            .email(id == 1 ? EMAIL : "user" + id + "@taskflow.com")
+            .username("user" + id)
+            .password("$2a$10$eImiTXuWVxfM37uY4JANjOzkXYqYPvtQdXQyHNQXQQGQCYXfYqYHK")
+            .firstName("Prénom " + id)
+            .lastName("Nom " + id)
+            .role(User.Role.USER)
+            .enabled(true)
+            .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+            .updatedAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+            .build();
+    }
+    
+    /**
+     * Tâches avec un créateur et trois assignés pris parmi dix utilisateurs, comme une page de liste typique.
+     */
+    static List<Task> tasks(int count) {
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            users.add(user(id));
+        }
+        
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Set<User> assignees = new HashSet<>();
+            for (int j = 1; j <= 3; j++) {
+                assignees.add(users.get((i + j) % users.size()));
+            }
+            tasks.add(Task.builder()
+                .id((long) i + 1)
+                .title("Tâche de benchmark #" + i)
+                .description("Description de la tâche " + i + " avec un peu de texte pour la sérialisation")
+                .status(Task.Status.values()[i % Task.Status.values().length])
+                .priority(Task.Priority.values()[i % Task.Priority.values().length])
+                .dueDate(LocalDateTime.of(2030, 1, 1, 12, 0).plusDays(i))
+                .creator(users.get(i % users.size()))
+                .assignedUsers(assignees)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i))
+                .updatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(i))
+                .build());
+        }
+        return tasks;
+    }
+    
+    /**
+     * UserRepository minimal : seul findByEmail est implémenté, sans Mockito pour ne pas mesurer ses intercepteurs.
+     */
+    static UserRepository userRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(
+            UserRepository.class.getClassLoader(),
+            new Class<?>[]{UserRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findByEmail")) {
+                    return user.getEmail().equals(args[0]) ? Optional.of(user) : Optional.empty();
+                }
+                throw new UnsupportedOperationException(method.getName());
+            }
+        );
+    }
+}
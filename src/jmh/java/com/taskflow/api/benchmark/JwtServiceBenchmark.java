@@ -0,0 +1,50 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    
+    private VerifiedTokenCache tokenCache;
+    private JwtService jwtService;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        tokenCache = new VerifiedTokenCache(10_000, 3_600_000);
+        jwtService = new JwtService(BenchmarkData.SECRET, 3_600_000, tokenCache, new SimpleMeterRegistry());
+        token = jwtService.generateToken(BenchmarkData.EMAIL);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(BenchmarkData.EMAIL);
+    }
+    
+    @Benchmark
+    public boolean validateTokenCached() {
+        Claims claims = jwtService.extractAllClaims(token);
+        return jwtService.isTokenValid(claims, BenchmarkData.EMAIL);
+    }
+    
+    /**
+     * Vérification complète de la signature : l'entrée est retirée du cache avant chaque appel.
+     */
+    @Benchmark
+    public boolean validateTokenUncached() {
+        tokenCache.invalidate(token);
+        Claims claims = jwtService.extractAllClaims(token);
+        return jwtService.isTokenValid(claims, BenchmarkData.EMAIL);
+    }
+}
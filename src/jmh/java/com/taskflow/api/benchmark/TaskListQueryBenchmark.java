@@ -0,0 +1,126 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.TaskFlowApiApplication;
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.service.TaskMapper;
+import com.taskflow.api.service.TaskService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Page de tâches lue sur H2 (profil test) : entités gérées puis mappées, comme avant,
+ * contre projections constructeur et requête groupée des assignés.
+ * À lancer avec {@code -prof gc} pour comparer {@code gc.alloc.rate.norm} (octets par page).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListQueryBenchmark {
+    
+    private static final int TASKS = 2_000;
+    private static final int USERS = 20;
+    
+    @Param({"20", "100"})
+    private int pageSize;
+    
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TaskService taskService;
+    private TaskMapper taskMapper;
+    private TransactionTemplate readOnlyTransaction;
+    private Pageable pageable;
+    
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskFlowApiApplication.class)
+            .profiles("test")
+            .properties(
+                "server.port=0",
+                "spring.jpa.show-sql=false",
+                "logging.level.com.taskflow=WARN"
+            )
+            .run();
+        taskRepository = context.getBean(TaskRepository.class);
+        taskService = context.getBean(TaskService.class);
+        taskMapper = context.getBean(TaskMapper.class);
+        
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> seed());
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        pageable = PageRequest.of(1, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    /**
+     * Chemin d'origine : entités Task et User gérées, description comprise, puis copie dans le DTO.
+     */
+    @Benchmark
+    public Page<TaskResponse> managedEntities() {
+        return readOnlyTransaction.execute(status -> {
+            Page<Task> tasks = taskRepository.findAll(pageable);
+            if (tasks.hasContent()) {
+                taskRepository.findAllWithAssignedUsers(tasks.map(Task::getId).getContent());
+            }
+            return tasks.map(taskMapper::toResponse);
+        });
+    }
+    
+    @Benchmark
+    public Page<TaskResponse> projections() {
+        return taskService.getTasks(TaskFilter.builder().build(), pageable);
+    }
+    
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(userRepository.save(User.builder()
+                .email("bench" + i + "@example.com")
+                .username("bench" + i)
+                .password("password")
+                .role(User.Role.USER)
+                .enabled(true)
+                .build()));
+        }
+        
+        String description = "Description de tâche assez longue pour peser dans la ligne. ".repeat(8);
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(Task.builder()
+                .title("Tâche " + i)
+                .description(description)
+                .status(Task.Status.values()[i % Task.Status.values().length])
+                .priority(Task.Priority.values()[i % Task.Priority.values().length])
+                .creator(users.get(i % USERS))
+                .assignedUsers(new HashSet<>(Set.of(users.get((i + 1) % USERS), users.get((i + 2) % USERS))))
+                .build());
+        }
+        taskRepository.saveAll(tasks);
+    }
+}
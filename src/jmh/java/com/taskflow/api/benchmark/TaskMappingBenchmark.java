@@ -0,0 +1,39 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.service.TaskMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion entité vers DTO telle que TaskService l'applique à une page de résultats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+    
+    private final TaskMapper taskMapper = new TaskMapper();
+    private Page<Task> page;
+    
+    @Setup
+    public void setUp() {
+        page = new PageImpl<>(BenchmarkData.tasks(pageSize), PageRequest.of(0, pageSize), 10_000);
+    }
+    
+    @Benchmark
+    public Page<TaskResponse> mapPage() {
+        return page.map(taskMapper::toResponse);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskflow.api.benchmark;
+
+import com.taskflow.api.security.CustomUserDetailsService;
+import com.taskflow.api.security.UserDetailsCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chargement du principal à chaque requête authentifiée, avec un UserRepository en mémoire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserDetailsServiceBenchmark {
+    
+    private UserDetailsCache userDetailsCache;
+    private CustomUserDetailsService userDetailsService;
+    
+    @Setup
+    public void setUp() {
+        userDetailsCache = new UserDetailsCache(10_000, Duration.ofMinutes(5));
+        userDetailsService = new CustomUserDetailsService(
+            BenchmarkData.userRepository(BenchmarkData.user(1)),
+            userDetailsCache
+        );
+    }
+    
+    @Benchmark
+    public UserDetails loadUserCached() {
+        return userDetailsService.loadUserByUsername(BenchmarkData.EMAIL);
+    }
+    
+    /**
+     * Chemin d'un défaut de cache : lecture du dépôt et construction du principal.
+     */
+    @Benchmark
+    public UserDetails loadUserUncached() {
+        userDetailsCache.getCache().invalidate(BenchmarkData.EMAIL);
+        return userDetailsService.loadUserByUsername(BenchmarkData.EMAIL);
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskflow.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Les méthodes {@code @Async} utilisent l'exécuteur {@code applicationTaskExecutor} de Spring Boot :
+ * pool de threads plateforme par défaut, threads virtuels lorsque {@code spring.threads.virtual.enabled=true}.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,15 @@
+package com.taskflow.api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Compte les requêtes SQL préparées par Hibernate pour la requête HTTP en cours, sans modifier le SQL.
+ */
+public class CountingStatementInspector implements StatementInspector {
+    
+    @Override
+    public String inspect(String sql) {
+        RequestStatistics.statementExecuted();
+        return sql;
+    }
+}
@@ -0,0 +1,125 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.security.PasswordHashingExecutor;
+import com.taskflow.api.security.TokenRevocationList;
+import com.taskflow.api.security.UserDetailsCache;
+import com.taskflow.api.security.VerifiedTokenCache;
+import com.taskflow.api.service.TaskEventBroadcaster;
+import com.taskflow.api.service.TaskResponseCache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Métriques applicatives exposées sur /actuator/prometheus, en complément de celles de Spring Boot
+ * (http.server.requests, hikaricp.*, hibernate.*, jvm.*).
+ */
+@Configuration
+public class MetricsConfig {
+    
+    private static final int MAX_URI_TAGS = 100;
+    
+    @Bean
+    public FilterRegistrationBean<RequestStatisticsFilter> requestStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestStatisticsFilter> registration =
+            new FilterRegistrationBean<>(new RequestStatisticsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+    
+    /**
+     * Garde-fou de cardinalité : au-delà de {@value #MAX_URI_TAGS} valeurs de {@code uri}, les nouvelles séries sont ignorées.
+     */
+    @Bean
+    public MeterFilter uriCardinalityLimit() {
+        return MeterFilter.maximumAllowableTags("", "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+    
+    @Bean
+    public MeterBinder securityCacheMetrics(VerifiedTokenCache verifiedTokenCache, UserDetailsCache userDetailsCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, verifiedTokenCache.getCache(), "jwt.claims");
+            CaffeineCacheMetrics.monitor(registry, userDetailsCache.getCache(), "user.details");
+        };
+    }
+    
+    /**
+     * {@code executor_queued_tasks}, {@code executor_active_threads}... avec {@code name="password.hash"}.
+     */
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor passwordHashingExecutor) {
+        return registry -> new ExecutorServiceMetrics(
+            passwordHashingExecutor.getExecutor(), "password.hash", Tags.empty()
+        ).bindTo(registry);
+    }
+    
+    @Bean
+    public MeterBinder tokenRevocationMetrics(TokenRevocationList tokenRevocationList) {
+        return registry -> {
+            Gauge.builder("taskflow.revocation.entries", tokenRevocationList, TokenRevocationList::size)
+                .description("Jetons révoqués non expirés tenus en mémoire")
+                .register(registry);
+            Gauge.builder("taskflow.revocation.false_positive.expected", tokenRevocationList,
+                    TokenRevocationList::expectedFalsePositiveRate)
+                .description("Taux de faux positifs théorique du filtre de Bloom")
+                .register(registry);
+            Gauge.builder("taskflow.revocation.false_positive.observed", tokenRevocationList,
+                    TokenRevocationList::observedFalsePositiveRate)
+                .description("Part des jetons valides signalés à tort par le filtre de Bloom")
+                .register(registry);
+        };
+    }
+    
+    @Bean
+    public MeterBinder taskCacheMetrics(TaskResponseCache taskResponseCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, taskResponseCache.getCache(), "task.response");
+    }
+    
+    @Bean
+    public MeterBinder taskStreamMetrics(TaskEventBroadcaster taskEventBroadcaster) {
+        return registry -> Gauge.builder("taskflow.stream.subscribers", taskEventBroadcaster, TaskEventBroadcaster::subscriberCount)
+            .description("Abonnés connectés au flux des tâches")
+            .register(registry);
+    }
+    
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("taskflow.datasource.permits.available", limited, ConcurrencyLimitedDataSource::availablePermits)
+                    .description("Connexions encore autorisées par le limiteur")
+                    .register(registry);
+                Gauge.builder("taskflow.datasource.permits.waiting", limited, ConcurrencyLimitedDataSource::waitingThreads)
+                    .description("Threads en attente d'une connexion")
+                    .register(registry);
+            }
+        };
+    }
+    
+    @Bean
+    public MeterBinder replicaRoutingMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (dataSource.isWrapperFor(ReplicaRoutingDataSource.class)) {
+                    ReplicaRoutingDataSource routing = dataSource.unwrap(ReplicaRoutingDataSource.class);
+                    Gauge.builder("taskflow.datasource.replicas.healthy", routing, ReplicaRoutingDataSource::healthyReplicas)
+                        .description("Réplicas de lecture en service")
+                        .register(registry);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskflow.api.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.orm.jpa.JpaVendorAdapter;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Réplicas en lecture ({@code taskflow.datasource.replicas.urls}, séparées par des virgules) : remplace la
+ * DataSource de Spring Boot par {@link ReplicaRoutingDataSource}. Sans URL, rien ne change.
+ * Les réplicas utilisent les identifiants du primaire. Les lectures servies par un réplica ne remplissent pas
+ * le cache de second niveau ({@link ReplicaReadJpaDialect}).
+ */
+@Configuration
+@ConditionalOnExpression("!'${taskflow.datasource.replicas.urls:}'.isBlank()")
+public class ReadReplicaConfig {
+    
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(
+        DataSourceProperties properties,
+        MeterRegistry meterRegistry,
+        @Value("${spring.datasource.hikari.maximum-pool-size:10}") int primaryPoolSize,
+        @Value("${taskflow.datasource.replicas.urls}") List<String> replicaUrls,
+        @Value("${taskflow.datasource.replicas.pool-size:10}") int replicaPoolSize,
+        @Value("${taskflow.datasource.replicas.strategy:round-robin}") String strategy,
+        @Value("${taskflow.datasource.replicas.health-check-interval:5s}") Duration healthCheckInterval,
+        @Value("${taskflow.datasource.replicas.read-your-writes:5s}") Duration readYourWrites
+    ) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary", primaryPoolSize, meterRegistry);
+        
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            HikariDataSource replica = pool(properties, url.trim(), "replica-" + (replicas.size() + 1), replicaPoolSize, meterRegistry);
+            replica.setReadOnly(true);
+            // Un réplica injoignable doit être écarté vite, pas faire attendre la lecture 30 s
+            replica.setConnectionTimeout(healthCheckInterval.toMillis());
+            replicas.add(replica);
+        }
+        
+        return new ReplicaRoutingDataSource(
+            primary, replicas, ReplicaRoutingDataSource.Strategy.parse(strategy),
+            healthCheckInterval, readYourWrites, meterRegistry
+        );
+    }
+    
+    /**
+     * Même adaptateur que Spring Boot, avec {@link ReplicaReadJpaDialect} : le gestionnaire de transactions
+     * prend le dialecte de l'EntityManagerFactory.
+     */
+    @Bean
+    public JpaVendorAdapter jpaVendorAdapter(JpaProperties properties) {
+        HibernateJpaDialect dialect = new ReplicaReadJpaDialect();
+        HibernateJpaVendorAdapter adapter = new HibernateJpaVendorAdapter() {
+            @Override
+            public HibernateJpaDialect getJpaDialect() {
+                return dialect;
+            }
+        };
+        adapter.setShowSql(properties.isShowSql());
+        if (properties.getDatabase() != null) {
+            adapter.setDatabase(properties.getDatabase());
+        }
+        if (properties.getDatabasePlatform() != null) {
+            adapter.setDatabasePlatform(properties.getDatabasePlatform());
+        }
+        adapter.setGenerateDdl(properties.isGenerateDdl());
+        return adapter;
+    }
+    
+    private static HikariDataSource pool(
+        DataSourceProperties properties, String url, String name, int size, MeterRegistry meterRegistry
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .url(url)
+            .build();
+        dataSource.setPoolName(name);
+        dataSource.setMaximumPoolSize(size);
+        // Ces pools ne sont pas des beans : Spring Boot ne les instrumente pas lui-même
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskflow.api.config;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.sql.SQLException;
+
+/**
+ * Transactions {@code readOnly} servies par un réplica : le cache de second niveau est lu mais jamais rempli
+ * ({@link CacheStoreMode#BYPASS}), pour ne pas y garder une ligne en retard jusqu'à l'expiration de l'entrée.
+ * Une transaction commencée dans {@link ReplicaRoutingDataSource#readFromPrimary} garde le mode de la session.
+ * <p>
+ * Le mode passe par la propriété JPA de l'EntityManager, pas par {@code Session.setCacheMode} :
+ * {@code find} le recalcule à partir de ces propriétés.
+ */
+class ReplicaReadJpaDialect extends HibernateJpaDialect {
+    
+    private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+    
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition) throws SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReplicaRoutingDataSource.isReadingFromPrimary()) {
+            return transactionData;
+        }
+        Object previousStoreMode = entityManager.getProperties().getOrDefault(STORE_MODE, CacheStoreMode.USE);
+        entityManager.setProperty(STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReplicaReadTransaction(transactionData, entityManager, previousStoreMode);
+    }
+    
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaReadTransaction replicaRead) {
+            // L'EntityManager peut survivre à la transaction (open-in-view) : rendre son mode d'origine
+            replicaRead.entityManager().setProperty(STORE_MODE, replicaRead.previousStoreMode());
+            super.cleanupTransaction(replicaRead.transactionData());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+    
+    private record ReplicaReadTransaction(Object transactionData, EntityManager entityManager, Object previousStoreMode) {
+    }
+}
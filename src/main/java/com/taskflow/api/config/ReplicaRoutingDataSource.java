@@ -0,0 +1,285 @@
+package com.taskflow.api.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskflow.api.security.AuthenticatedUser;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Envoie les transactions {@code readOnly} vers les réplicas, le reste vers le primaire.
+ * <p>
+ * La connexion physique n'est prise qu'à la première requête SQL ({@link LazyConnectionDataSourceProxy}) :
+ * à ce moment, Spring a déjà marqué la connexion en lecture seule, ce qui décide du pool. Un réplica qui refuse
+ * une connexion est écarté pendant {@code healthCheckInterval} et la lecture passe au suivant, puis au primaire.
+ * Après une écriture, les lectures du même utilisateur restent sur le primaire pendant {@code readYourWrites},
+ * le temps que la réplication rattrape.
+ * <p>
+ * Ce qui remplit un cache lit le primaire ({@link #readFromPrimary}) : une ligne lue sur un réplica en retard
+ * resterait dans le cache jusqu'à l'expiration de l'entrée, bien après que la réplication a rattrapé.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements DisposableBean {
+    
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_BUSY;
+        
+        public static Strategy parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+    
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+    
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final long healthCheckIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final Cache<Long, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+    private final Counter cacheFillReads;
+    
+    public ReplicaRoutingDataSource(
+        DataSource primary,
+        List<DataSource> replicas,
+        Strategy strategy,
+        Duration healthCheckInterval,
+        Duration readYourWrites,
+        MeterRegistry meterRegistry
+    ) {
+        this(primary, replicas, strategy, healthCheckInterval, readYourWrites, meterRegistry, System::nanoTime);
+    }
+    
+    ReplicaRoutingDataSource(
+        DataSource primary,
+        List<DataSource> replicas,
+        Strategy strategy,
+        Duration healthCheckInterval,
+        Duration readYourWrites,
+        MeterRegistry meterRegistry,
+        LongSupplier nanoClock
+    ) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.strategy = strategy;
+        this.healthCheckIntervalNanos = healthCheckInterval.toNanos();
+        this.nanoClock = nanoClock;
+        this.recentWriters = readYourWrites.isZero() ? null : Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(readYourWrites)
+            .ticker(nanoClock::getAsLong)
+            .build();
+        this.replicaReads = reads(meterRegistry, "replica");
+        this.stickyReads = reads(meterRegistry, "primary_sticky");
+        this.fallbackReads = reads(meterRegistry, "primary_fallback");
+        this.cacheFillReads = reads(meterRegistry, "primary_cache_fill");
+        
+        setTargetDataSource(new WriteDataSource());
+        setReadOnlyDataSource(new ReadDataSource());
+        afterPropertiesSet();
+    }
+    
+    /**
+     * Exécute {@code read} avec ses lectures sur le primaire, sans compter l'utilisateur comme écrivain.
+     * Seules les transactions commencées dans {@code read} remplissent le cache de second niveau.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        if (isReadingFromPrimary()) {
+            return read.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+    
+    public static boolean isReadingFromPrimary() {
+        return PRIMARY_READS.get() != null;
+    }
+    
+    /**
+     * Sonde chaque réplica : un réplica écarté revient dès qu'il répond, un réplica muet est écarté
+     * sans attendre qu'une lecture échoue dessus.
+     */
+    @Scheduled(fixedDelayString = "${taskflow.datasource.replicas.health-check-interval:5s}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.downUntilNanos = 0;
+                } else {
+                    replica.markDown();
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown();
+            }
+        }
+    }
+    
+    public int healthyReplicas() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.isUp()) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+    
+    @Override
+    public void destroy() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+    
+    private Connection readConnection() throws SQLException {
+        if (isReadingFromPrimary()) {
+            cacheFillReads.increment();
+            return primary.getConnection();
+        }
+        
+        Long userId = currentUserId();
+        if (userId != null && recentWriters != null && recentWriters.getIfPresent(userId) != null) {
+            stickyReads.increment();
+            return primary.getConnection();
+        }
+        
+        int size = replicas.size();
+        int start = strategy == Strategy.LEAST_BUSY ? leastBusy() : Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isUp()) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replicaReads.increment();
+                return connection;
+            } catch (SQLException e) {
+                replica.markDown();
+            }
+        }
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+    
+    private int leastBusy() {
+        int best = 0;
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            int active = replica.activeConnections();
+            if (replica.isUp() && active < fewest) {
+                best = i;
+                fewest = active;
+            }
+        }
+        return best;
+    }
+    
+    private Connection writeConnection() throws SQLException {
+        Long userId = currentUserId();
+        if (userId != null && recentWriters != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+        return primary.getConnection();
+    }
+    
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user ? user.id() : null;
+    }
+    
+    private static Counter reads(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("taskflow.datasource.reads")
+            .description("Connexions de lecture seule par destination")
+            .tag("target", target)
+            .register(meterRegistry);
+    }
+    
+    private final class Replica {
+        
+        private final DataSource dataSource;
+        private volatile long downUntilNanos;
+        
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+        
+        private boolean isUp() {
+            return downUntilNanos == 0 || nanoClock.getAsLong() - downUntilNanos >= 0;
+        }
+        
+        private void markDown() {
+            downUntilNanos = nanoClock.getAsLong() + healthCheckIntervalNanos;
+        }
+        
+        private int activeConnections() {
+            if (dataSource instanceof HikariDataSource hikari) {
+                HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+                return pool != null ? pool.getActiveConnections() : 0;
+            }
+            return 0;
+        }
+    }
+    
+    /**
+     * Connexions hors lecture seule : primaire, et mémorise l'écrivain pour la lecture de ses propres écritures.
+     */
+    private final class WriteDataSource extends AbstractDataSource {
+        
+        @Override
+        public Connection getConnection() throws SQLException {
+            return writeConnection();
+        }
+        
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return writeConnection();
+        }
+    }
+    
+    private final class ReadDataSource extends AbstractDataSource {
+        
+        @Override
+        public Connection getConnection() throws SQLException {
+            return readConnection();
+        }
+        
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return readConnection();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskflow.api.config;
+
+/**
+ * Compteurs Hibernate du thread courant, remis à zéro au début de chaque requête HTTP.
+ * Alimentés par {@link CountingStatementInspector} et {@link RequestStatisticsIntegrator}.
+ */
+public final class RequestStatistics {
+    
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+    
+    private long statements;
+    private long entityLoads;
+    private long collectionFetches;
+    
+    private RequestStatistics() {
+    }
+    
+    public static RequestStatistics start() {
+        RequestStatistics statistics = new RequestStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+    
+    public static void stop() {
+        CURRENT.remove();
+    }
+    
+    static void statementExecuted() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+        }
+    }
+    
+    static void entityLoaded() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.entityLoads++;
+        }
+    }
+    
+    static void collectionFetched() {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.collectionFetches++;
+        }
+    }
+    
+    public long getStatements() {
+        return statements;
+    }
+    
+    public long getEntityLoads() {
+        return entityLoads;
+    }
+    
+    public long getCollectionFetches() {
+        return collectionFetches;
+    }
+}
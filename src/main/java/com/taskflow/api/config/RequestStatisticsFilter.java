@@ -0,0 +1,60 @@
+package com.taskflow.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publie, pour chaque requête HTTP, le nombre de requêtes SQL, d'entités chargées et de collections
+ * initialisées. Le tag {@code uri} est le motif de la route ({@code /api/tasks/{id}}), jamais l'URL brute.
+ */
+public class RequestStatisticsFilter extends OncePerRequestFilter {
+    
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public RequestStatisticsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestStatistics statistics = RequestStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestStatistics.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+            record("taskflow.hibernate.request.statements", "Requêtes SQL par requête HTTP",
+                request.getMethod(), uri, statistics.getStatements());
+            record("taskflow.hibernate.request.entity.loads", "Entités chargées par requête HTTP",
+                request.getMethod(), uri, statistics.getEntityLoads());
+            record("taskflow.hibernate.request.collection.fetches", "Collections initialisées par requête HTTP",
+                request.getMethod(), uri, statistics.getCollectionFetches());
+        }
+    }
+    
+    private void record(String name, String description, String method, String uri, long value) {
+        DistributionSummary.builder(name)
+            .description(description)
+            .tag("method", method)
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(value);
+    }
+}
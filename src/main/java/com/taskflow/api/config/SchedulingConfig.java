@@ -0,0 +1,16 @@
+package com.taskflow.api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Tâches planifiées, actives sur toutes les instances : chacune se coordonne par la base (verrou de
+ * réconciliation des compteurs, lots d'outbox réclamés avec {@code SKIP LOCKED}). Les tests les désactivent
+ * avec {@code taskflow.scheduling.enabled=false}.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "taskflow.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
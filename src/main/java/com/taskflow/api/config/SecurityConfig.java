@@ -1,9 +1,18 @@
 package com.taskflow.api.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskflow.api.security.JwtAuthenticationFilter;
+import com.taskflow.api.security.RateLimitFilter;
+import com.taskflow.api.security.RateLimiter;
+import com.taskflow.api.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -15,10 +24,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.List;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -27,13 +41,19 @@ public class SecurityConfig {
     
     private final JwtAuthenticationFilter jwtAuthFilter;
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    
+    @Value("${taskflow.security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
     
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimitFilter rateLimitFilter) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)
             .cors(cors -> cors.configure(http))
             .authorizeHttpRequests(auth -> auth
+                // Reprise asynchrone d'une requête déjà autorisée (fin d'un flux SSE)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/swagger-ui/**", "/api-docs/**", "/swagger-ui.html").permitAll()
                 .requestMatchers("/actuator/**").permitAll()
@@ -42,12 +62,56 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
+            // Jeton absent, invalide ou expiré : 401, le client renouvelle son jeton via /api/auth/refresh
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
         
         return http.build();
     }
     
+    /**
+     * Règles évaluées dans l'ordre : authentification par IP (chaque login coûte un BCrypt),
+     * opérations de masse puis reste de l'API par utilisateur.
+     */
+    @Bean
+    public RateLimitFilter rateLimitFilter(
+        ObjectMapper objectMapper,
+        @Value("${taskflow.rate-limit.enabled:true}") boolean enabled,
+        @Value("${taskflow.rate-limit.max-keys:100000}") long maxKeys,
+        @Value("${taskflow.rate-limit.auth.rate:2}") double authRate,
+        @Value("${taskflow.rate-limit.auth.burst:20}") int authBurst,
+        @Value("${taskflow.rate-limit.bulk.rate:0.2}") double bulkRate,
+        @Value("${taskflow.rate-limit.bulk.burst:5}") int bulkBurst,
+        @Value("${taskflow.rate-limit.api.rate:50}") double apiRate,
+        @Value("${taskflow.rate-limit.api.burst:100}") int apiBurst
+    ) {
+        if (!enabled) {
+            return new RateLimitFilter(List.of(), objectMapper, meterRegistry);
+        }
+        return new RateLimitFilter(List.of(
+            new RateLimitFilter.Rule("auth", List.of("/api/auth/"), true,
+                new RateLimiter(authRate, authBurst, maxKeys)),
+            new RateLimitFilter.Rule("bulk", List.of("/api/tasks/batch", "/api/tasks/import", "/api/tasks/export"), false,
+                new RateLimiter(bulkRate, bulkBurst, maxKeys)),
+            new RateLimitFilter.Rule("api", List.of("/api/"), false,
+                new RateLimiter(apiRate, apiBurst, maxKeys))
+        ), objectMapper, meterRegistry);
+    }
+    
+    /**
+     * Le filtre ne s'exécute que dans la chaîne de sécurité, une fois le jeton lu.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter rateLimitFilter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+    
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -61,8 +125,15 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
     
+    /**
+     * Empreintes préfixées par l'algorithme ({@code {bcrypt}...}) ; les anciennes, sans préfixe, restent lues
+     * comme du BCrypt. Une empreinte d'un autre algorithme ou d'un coût inférieur est ré-encodée à la connexion.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new TimedPasswordEncoder(encoder, meterRegistry);
     }
 }
@@ -0,0 +1,46 @@
+package com.taskflow.api.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.sqm.function.SqmFunctionRegistry;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Fonctions HQL de recherche sur PostgreSQL. Les motifs reprennent à l'identique
+ * les expressions indexées par la migration V4 afin que le planificateur utilise les index GIN.
+ */
+public class TaskSearchFunctionContributor implements FunctionContributor {
+    
+    private static final String SEARCH_TEXT = "(coalesce(s.title, '') || ' ' || coalesce(s.description, ''))";
+    
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+        
+        SqmFunctionRegistry registry = functionContributions.getFunctionRegistry();
+        TypeConfiguration typeConfiguration = functionContributions.getTypeConfiguration();
+        BasicType<Boolean> booleanType = typeConfiguration.getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Double> doubleType = typeConfiguration.getBasicTypeRegistry().resolve(StandardBasicTypes.DOUBLE);
+        
+        registry.registerPattern(
+            "task_fts_match",
+            "(?1 in (select s.id from tasks s where s.search_vector @@ to_tsquery('simple', ?2)))",
+            booleanType
+        );
+        registry.registerPattern(
+            "task_fts_rank",
+            "(select ts_rank_cd(s.search_vector, to_tsquery('simple', ?2)) from tasks s where s.id = ?1)",
+            doubleType
+        );
+        registry.registerPattern(
+            "task_trgm_match",
+            "(?1 in (select s.id from tasks s where " + SEARCH_TEXT + " ilike ?2))",
+            booleanType
+        );
+    }
+}
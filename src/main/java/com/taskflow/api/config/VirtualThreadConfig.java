@@ -0,0 +1,37 @@
+package com.taskflow.api.config;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Mode threads virtuels ({@code spring.threads.virtual.enabled=true}) : Tomcat et l'exécuteur
+ * {@code @Async} de Spring Boot passent aux threads virtuels, l'accès à la base reste borné.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+    
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+        @Value("${taskflow.datasource.max-concurrent-connections:10}") int maxConcurrentConnections,
+        @Value("${taskflow.datasource.acquire-timeout:5s}") Duration acquireTimeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrentConnections, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
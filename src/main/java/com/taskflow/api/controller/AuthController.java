@@ -2,15 +2,19 @@ package com.taskflow.api.controller;
 
 import com.taskflow.api.dto.AuthResponse;
 import com.taskflow.api.dto.LoginRequest;
+import com.taskflow.api.dto.RefreshRequest;
 import com.taskflow.api.dto.RegisterRequest;
 import com.taskflow.api.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
@@ -28,7 +32,23 @@ public class AuthController {
     
     @PostMapping("/login")
     @Operation(summary = "Connexion utilisateur")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        return ResponseEntity.ok(authService.login(request));
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+        return authService.login(request).thenApply(ResponseEntity::ok);
+    }
+    
+    @PostMapping("/refresh")
+    @Operation(summary = "Renouveler le jeton d'accès avec un jeton de rafraîchissement (à usage unique)")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+    
+    @PostMapping("/logout")
+    @Operation(summary = "Révoquer le jeton de rafraîchissement fourni et le jeton d'accès de la requête")
+    public ResponseEntity<Void> logout(
+        @RequestBody(required = false) RefreshRequest request,
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization
+    ) {
+        authService.logout(request, authorization);
+        return ResponseEntity.noContent().build();
     }
 }
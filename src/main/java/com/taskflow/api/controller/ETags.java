@@ -0,0 +1,87 @@
+package com.taskflow.api.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * ETag des tâches : fort pour une tâche (sa version et celle des utilisateurs intégrés),
+ * faible pour une liste (empreinte de la table).
+ */
+final class ETags {
+    
+    private ETags() {
+    }
+    
+    /**
+     * {@code "version.horodatage"} : la réponse intègre le créateur et les assignés, dont la dernière modification
+     * (en microsecondes, base 36) fait aussi changer l'ETag. Seule la version compte pour If-Match.
+     */
+    static String strong(Long version, LocalDateTime usersUpdatedAt) {
+        if (version == null) {
+            return null;
+        }
+        if (usersUpdatedAt == null) {
+            return "\"" + version + "\"";
+        }
+        long micros = usersUpdatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + usersUpdatedAt.getNano() / 1_000;
+        return "\"" + version + "." + Long.toString(micros, 36) + "\"";
+    }
+    
+    static String weak(String fingerprint) {
+        if (fingerprint == null) {
+            return null;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(fingerprint.getBytes(StandardCharsets.UTF_8));
+            return "W/\"" + HexFormat.of().formatHex(hash, 0, 12) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+    
+    /**
+     * Comparaison faible de If-None-Match (RFC 9110) : le préfixe W/ est ignoré.
+     */
+    static boolean noneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        String opaque = stripWeak(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .anyMatch(candidate -> candidate.equals("*") || stripWeak(candidate).equals(opaque));
+    }
+    
+    /**
+     * Version attendue par If-Match, ou {@code null} si aucune précondition ne s'applique.
+     * If-Match impose une comparaison forte : un ETag faible ne correspond jamais.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.contains(",")) {
+            throw new RuntimeException("If-Match ne doit contenir qu'un seul ETag");
+        }
+        if (value.length() < 2 || !value.startsWith("\"") || !value.endsWith("\"")) {
+            return -1L;
+        }
+        String opaque = value.substring(1, value.length() - 1);
+        int separator = opaque.indexOf('.');
+        try {
+            return Long.parseLong(separator < 0 ? opaque : opaque.substring(0, separator));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+    
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.service.AuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users/{userId}/sessions")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Sessions", description = "Révocation des sessions d'un utilisateur (administrateurs)")
+@SecurityRequirement(name = "bearer-jwt")
+public class SessionController {
+    
+    private final AuthService authService;
+    
+    @DeleteMapping
+    @Operation(summary = "Révoquer tous les jetons d'un utilisateur")
+    public ResponseEntity<Void> revokeSessions(@PathVariable Long userId) {
+        authService.revokeSessions(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,21 +1,54 @@
 package com.taskflow.api.controller;
 
+import com.taskflow.api.dto.BatchResponse;
+import com.taskflow.api.dto.CursorPage;
+import com.taskflow.api.dto.ImportReport;
+import com.taskflow.api.dto.NormalizedPage;
+import com.taskflow.api.dto.TaskBatchUpdateItem;
+import com.taskflow.api.dto.TaskFilter;
 import com.taskflow.api.dto.TaskRequest;
 import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.TaskStatsResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.repository.projection.TaskValidator;
+import com.taskflow.api.service.TaskBatchService;
+import com.taskflow.api.service.TaskEventBroadcaster;
+import com.taskflow.api.service.TaskExportService;
+import com.taskflow.api.service.TaskImportService;
 import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.TaskStatsService;
+import com.taskflow.api.service.TaskView;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -26,6 +59,14 @@ import org.springframework.web.bind.annotation.*;
 public class TaskController {
     
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    
+    @Value("${taskflow.export.timeout:1h}")
+    private Duration exportTimeout;
     
     @PostMapping
     @Operation(summary = "Créer une nouvelle tâche")
@@ -38,50 +79,214 @@ public class TaskController {
             .body(taskService.createTask(request, email));
     }
     
+    @PostMapping("/batch")
+    @Operation(summary = "Créer des tâches par lot")
+    public ResponseEntity<BatchResponse> createTasks(
+        @RequestBody List<TaskRequest> requests,
+        Authentication authentication
+    ) {
+        return ResponseEntity.ok(taskBatchService.createTasks(requests, authentication.getName()));
+    }
+    
+    @PutMapping("/batch")
+    @Operation(summary = "Modifier des tâches par lot")
+    public ResponseEntity<BatchResponse> updateTasks(@RequestBody List<TaskBatchUpdateItem> items) {
+        return ResponseEntity.ok(taskBatchService.updateTasks(items));
+    }
+    
+    @DeleteMapping("/batch")
+    @Operation(summary = "Supprimer des tâches par lot")
+    public ResponseEntity<BatchResponse> deleteTasks(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(taskBatchService.deleteTasks(ids));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Récupérer une tâche par ID")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTaskById(id));
+    public ResponseEntity<TaskResponse> getTaskById(
+        @PathVariable Long id,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        if (ifNoneMatch != null) {
+            TaskValidator validator = taskService.getTaskValidator(id);
+            String etag = ETags.strong(validator.version(), validator.usersUpdatedAt());
+            if (ETags.noneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+        return withETag(taskService.getTaskById(id));
     }
     
+    /**
+     * Sans {@code fields}, {@code expand} ni {@code format}, la réponse garde la forme complète de {@link TaskResponse}.
+     */
     @GetMapping
-    @Operation(summary = "Lister toutes les tâches avec pagination et filtres")
-    public ResponseEntity<Page<TaskResponse>> getAllTasks(
+    @Operation(summary = "Lister toutes les tâches avec pagination et filtres combinables")
+    public ResponseEntity<?> getAllTasks(
         @RequestParam(required = false) String search,
         @RequestParam(required = false) String status,
         @RequestParam(required = false) String priority,
         @RequestParam(required = false) Long creatorId,
         @RequestParam(required = false) Long assignedUserId,
+        @RequestParam(required = false) List<Long> assignedUserIds,
+        @RequestParam(defaultValue = "any") String assigneeMatch,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "10") int size,
         @RequestParam(defaultValue = "createdAt") String sortBy,
-        @RequestParam(defaultValue = "DESC") String sortDirection
+        @RequestParam(defaultValue = "DESC") String sortDirection,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String expand,
+        @RequestParam(required = false) String format,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
+        String etag = ETags.weak(taskService.getListFingerprint());
+        if (ETags.noneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         Sort.Direction direction = Sort.Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+        TaskFilter filter = toFilter(
+            search, status, priority, creatorId, assignedUserId, assignedUserIds, assigneeMatch, dueFrom, dueTo
+        );
         
-        Page<TaskResponse> tasks;
+        if (fields == null && expand == null && format == null) {
+            return ok(etag).body(taskService.getTasks(filter, pageable));
+        }
+        TaskView view = TaskView.parse(fields, expand, format);
+        Page<TaskResponse> tasks = taskService.getTasks(filter, pageable, view);
+        if (!view.normalized()) {
+            return ok(etag).body(tasks.map(view::render));
+        }
+        return ok(etag).body(NormalizedPage.<Map<String, Object>>builder()
+            .content(tasks.getContent().stream().map(view::render).toList())
+            .users(view.users(tasks.getContent()))
+            .number(tasks.getNumber())
+            .size(tasks.getSize())
+            .totalElements(tasks.getTotalElements())
+            .totalPages(tasks.getTotalPages())
+            .build());
+    }
+    
+    /**
+     * Mêmes filtres que la pagination par numéro de page ; une recherche n'y classe pas par pertinence.
+     */
+    @GetMapping(params = "pagination=cursor")
+    @Operation(summary = "Lister les tâches par curseur, sans requête de comptage")
+    public ResponseEntity<?> getTasksByCursor(
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String priority,
+        @RequestParam(required = false) Long creatorId,
+        @RequestParam(required = false) Long assignedUserId,
+        @RequestParam(required = false) List<Long> assignedUserIds,
+        @RequestParam(defaultValue = "any") String assigneeMatch,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+        @RequestParam(required = false) String after,
+        @RequestParam(defaultValue = "10") int size,
+        @RequestParam(defaultValue = "createdAt") String sortBy,
+        @RequestParam(defaultValue = "DESC") String sortDirection,
+        @RequestParam(required = false) String fields,
+        @RequestParam(required = false) String expand,
+        @RequestParam(required = false) String format,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String etag = ETags.weak(taskService.getListFingerprint());
+        if (ETags.noneMatch(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        TaskFilter filter = toFilter(
+            search, status, priority, creatorId, assignedUserId, assignedUserIds, assigneeMatch, dueFrom, dueTo
+        );
         
-        if (search != null && !search.isEmpty()) {
-            tasks = taskService.searchTasks(search, pageable);
-        } else if (assignedUserId != null) {
-            tasks = taskService.getTasksByAssignedUser(assignedUserId, pageable);
-        } else if (status != null || priority != null || creatorId != null) {
-            tasks = taskService.getTasksByFilters(status, priority, creatorId, pageable);
-        } else {
-            tasks = taskService.getAllTasks(pageable);
+        if (fields == null && expand == null && format == null) {
+            return ok(etag).body(taskService.getTasksAfter(filter, after, sortBy, direction, size));
         }
+        TaskView view = TaskView.parse(fields, expand, format);
+        CursorPage<TaskResponse> tasks = taskService.getTasksAfter(filter, after, sortBy, direction, size, view);
+        return ok(etag).body(CursorPage.<Map<String, Object>>builder()
+            .content(tasks.getContent().stream().map(view::render).toList())
+            .size(tasks.getSize())
+            .hasNext(tasks.isHasNext())
+            .nextCursor(tasks.getNextCursor())
+            .users(view.normalized() ? view.users(tasks.getContent()) : null)
+            .build());
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Exporter les tâches en flux NDJSON ou CSV")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+        @RequestParam(defaultValue = "ndjson") String format,
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) String status,
+        @RequestParam(required = false) String priority,
+        @RequestParam(required = false) Long creatorId,
+        @RequestParam(required = false) Long assignedUserId,
+        @RequestParam(required = false) List<Long> assignedUserIds,
+        @RequestParam(defaultValue = "any") String assigneeMatch,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+        HttpServletRequest request
+    ) {
+        TaskExportService.Format exportFormat = TaskExportService.Format.valueOf(format.toUpperCase());
+        TaskFilter filter = toFilter(
+            search, status, priority, creatorId, assignedUserId, assignedUserIds, assigneeMatch, dueFrom, dueTo
+        );
+        
+        MediaType contentType = exportFormat == TaskExportService.Format.CSV
+            ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+            : MediaType.APPLICATION_NDJSON;
+        String fileName = "tasks." + exportFormat.name().toLowerCase();
+        
+        // Délai propre à l'export, les autres requêtes asynchrones gardent celui par défaut
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
         
-        return ResponseEntity.ok(tasks);
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(outputStream -> taskExportService.exportTasks(filter, exportFormat, outputStream));
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "S'abonner aux modifications de tâches (Server-Sent Events)")
+    public SseEmitter streamTasks(
+        @RequestParam(defaultValue = "false") boolean assignedToMe,
+        @RequestParam(required = false) Long creatorId,
+        Authentication authentication
+    ) {
+        return taskEventBroadcaster.subscribe(authentication.getName(), assignedToMe, creatorId);
+    }
+    
+    @GetMapping("/stats")
+    @Operation(summary = "Compter les tâches par statut et priorité, globalement ou pour un créateur ou un assigné")
+    public ResponseEntity<TaskStatsResponse> getTaskStats(
+        @RequestParam(required = false) Long creatorId,
+        @RequestParam(required = false) Long assignedUserId
+    ) {
+        return ResponseEntity.ok(taskStatsService.getStats(creatorId, assignedUserId));
+    }
+    
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Importer massivement des tâches depuis un flux NDJSON ou CSV (administrateurs)")
+    public ResponseEntity<ImportReport> importTasks(
+        @RequestParam(defaultValue = "ndjson") String format,
+        InputStream inputStream
+    ) throws IOException {
+        TaskExportService.Format importFormat = TaskExportService.Format.valueOf(format.toUpperCase());
+        return ResponseEntity.ok(taskImportService.importTasks(inputStream, importFormat));
     }
     
     @PutMapping("/{id}")
     @Operation(summary = "Modifier une tâche")
     public ResponseEntity<TaskResponse> updateTask(
         @PathVariable Long id,
-        @Valid @RequestBody TaskRequest request
+        @Valid @RequestBody TaskRequest request,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(taskService.updateTask(id, request));
+        return withETag(taskService.updateTask(id, request, ETags.expectedVersion(ifMatch)));
     }
     
     @DeleteMapping("/{id}")
@@ -95,17 +300,60 @@ public class TaskController {
     @Operation(summary = "Assigner un utilisateur à une tâche")
     public ResponseEntity<TaskResponse> assignUserToTask(
         @PathVariable Long taskId,
-        @PathVariable Long userId
+        @PathVariable Long userId,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(taskService.assignUserToTask(taskId, userId));
+        return withETag(taskService.assignUserToTask(taskId, userId, ETags.expectedVersion(ifMatch)));
     }
     
     @DeleteMapping("/{taskId}/assign/{userId}")
     @Operation(summary = "Retirer un utilisateur d'une tâche")
     public ResponseEntity<TaskResponse> unassignUserFromTask(
         @PathVariable Long taskId,
-        @PathVariable Long userId
+        @PathVariable Long userId,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
+    ) {
+        return withETag(taskService.unassignUserFromTask(taskId, userId, ETags.expectedVersion(ifMatch)));
+    }
+    
+    /**
+     * {@code assignedUserId} reste accepté et s'ajoute à {@code assignedUserIds}.
+     */
+    private static TaskFilter toFilter(
+        String search,
+        String status,
+        String priority,
+        Long creatorId,
+        Long assignedUserId,
+        List<Long> assignedUserIds,
+        String assigneeMatch,
+        LocalDateTime dueFrom,
+        LocalDateTime dueTo
     ) {
-        return ResponseEntity.ok(taskService.unassignUserFromTask(taskId, userId));
+        List<Long> assignees = new ArrayList<>();
+        if (assignedUserId != null) {
+            assignees.add(assignedUserId);
+        }
+        if (assignedUserIds != null) {
+            assignees.addAll(assignedUserIds);
+        }
+        return TaskFilter.builder()
+            .search(search)
+            .status(status != null ? Task.Status.valueOf(status.toUpperCase()) : null)
+            .priority(priority != null ? Task.Priority.valueOf(priority.toUpperCase()) : null)
+            .creatorId(creatorId)
+            .assignedUserIds(assignees.isEmpty() ? null : assignees)
+            .assigneeMatch(TaskFilter.AssigneeMatch.valueOf(assigneeMatch.toUpperCase()))
+            .dueFrom(dueFrom)
+            .dueTo(dueTo)
+            .build();
+    }
+    
+    private static ResponseEntity<TaskResponse> withETag(TaskResponse task) {
+        return ok(task != null ? ETags.strong(task.getVersion(), task.getUsersUpdatedAt()) : null).body(task);
+    }
+    
+    private static ResponseEntity.BodyBuilder ok(String etag) {
+        return etag != null ? ResponseEntity.ok().eTag(etag) : ResponseEntity.ok();
     }
 }
@@ -0,0 +1,46 @@
+package com.taskflow.api.controller;
+
+import com.taskflow.api.dto.WebhookRequest;
+import com.taskflow.api.dto.WebhookResponse;
+import com.taskflow.api.service.WebhookService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/webhooks")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@Tag(name = "Webhooks", description = "Notification des systèmes externes (administrateurs)")
+@SecurityRequirement(name = "bearer-jwt")
+public class WebhookController {
+    
+    private final WebhookService webhookService;
+    
+    @PostMapping
+    @Operation(summary = "Enregistrer un webhook ; la clé de signature n'est renvoyée qu'à cette occasion")
+    public ResponseEntity<WebhookResponse> createWebhook(@Valid @RequestBody WebhookRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(webhookService.createWebhook(request));
+    }
+    
+    @GetMapping
+    @Operation(summary = "Lister les webhooks")
+    public ResponseEntity<List<WebhookResponse>> getWebhooks() {
+        return ResponseEntity.ok(webhookService.getWebhooks());
+    }
+    
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Supprimer un webhook et ses livraisons en attente")
+    public ResponseEntity<Void> deleteWebhook(@PathVariable Long id) {
+        webhookService.deleteWebhook(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -13,6 +13,16 @@ public class AuthResponse {
     private String token;
     @Builder.Default
     private String type = "Bearer";
+    
+    /**
+     * Durée de validité de {@link #token}, en secondes.
+     */
+    private Long expiresIn;
+    
+    /**
+     * À présenter une seule fois à POST /api/auth/refresh pour obtenir un nouveau couple de jetons.
+     */
+    private String refreshToken;
     private Long userId;
     private String email;
     private String username;
@@ -0,0 +1,21 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private Long id;
+    private Status status;
+    private String error;
+    
+    public enum Status {
+        CREATED, UPDATED, DELETED, FAILED
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+    
+    public static BatchResponse of(List<BatchItemResult> results) {
+        int failed = (int) results.stream()
+            .filter(result -> result.getStatus() == BatchItemResult.Status.FAILED)
+            .count();
+        return BatchResponse.builder()
+            .succeeded(results.size() - failed)
+            .failed(failed)
+            .results(results)
+            .build();
+    }
+}
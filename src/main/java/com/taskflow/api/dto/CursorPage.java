@@ -0,0 +1,27 @@
+package com.taskflow.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    
+    /**
+     * Utilisateurs référencés par la page, en format normalisé uniquement.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Long, UserResponse> users;
+}
@@ -0,0 +1,26 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page d'une liste en format normalisé : les éléments ne portent que des identifiants d'utilisateurs,
+ * détaillés une seule fois dans {@code users}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NormalizedPage<T> {
+    private List<T> content;
+    private Map<Long, UserResponse> users;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+}
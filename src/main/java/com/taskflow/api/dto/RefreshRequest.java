@@ -0,0 +1,17 @@
+package com.taskflow.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshRequest {
+    
+    @NotBlank(message = "Le jeton de rafraîchissement est requis")
+    private String refreshToken;
+}
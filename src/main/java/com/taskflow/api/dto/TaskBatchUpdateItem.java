@@ -0,0 +1,22 @@
+package com.taskflow.api.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchUpdateItem {
+    
+    @NotNull(message = "L'identifiant de la tâche est requis")
+    private Long id;
+    
+    @Valid
+    @NotNull(message = "Le contenu de la tâche est requis")
+    private TaskRequest task;
+}
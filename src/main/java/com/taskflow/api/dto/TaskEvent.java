@@ -0,0 +1,55 @@
+package com.taskflow.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * Modification d'une tâche diffusée sur GET /api/tasks/stream après le commit de la transaction.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+    private Type type;
+    private Long taskId;
+    private Long version;
+    
+    /**
+     * Utilisateur (dés)assigné, pour {@link Type#ASSIGNED} et {@link Type#UNASSIGNED}.
+     */
+    private Long userId;
+    
+    /**
+     * État de la tâche après la modification ; absent pour {@link Type#DELETED} et {@link Type#IMPORTED},
+     * ainsi que pour les créations de l'import massif livrées aux webhooks.
+     */
+    private TaskResponse task;
+    
+    /**
+     * Nombre de tâches créées par le lot, pour {@link Type#IMPORTED}.
+     */
+    private Integer count;
+    
+    @JsonIgnore
+    private Long creatorId;
+    
+    /**
+     * Assignés avant et après la modification : un utilisateur retiré de la tâche reçoit encore l'événement.
+     */
+    @JsonIgnore
+    private Set<Long> assigneeIds;
+    
+    /**
+     * {@link #IMPORTED} signale un lot de l'import massif, sans détail par tâche ni {@code taskId} :
+     * il est envoyé à tous les abonnés, qui relisent la liste.
+     */
+    public enum Type {
+        CREATED, UPDATED, DELETED, ASSIGNED, UNASSIGNED, IMPORTED
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskflow.api.dto;
+
+import com.taskflow.api.entity.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilter {
+    private String search;
+    private Task.Status status;
+    private Task.Priority priority;
+    private Long creatorId;
+    private List<Long> assignedUserIds;
+    private AssigneeMatch assigneeMatch;
+    private LocalDateTime dueFrom;
+    private LocalDateTime dueTo;
+    
+    /**
+     * ANY : au moins un des utilisateurs est assigné ; ALL : tous le sont.
+     */
+    public enum AssigneeMatch {
+        ANY, ALL
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskflow.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,4 +24,12 @@ public class TaskResponse {
     private Set<UserResponse> assignedUsers;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    
+    /**
+     * Dernière modification du créateur et des assignés, pour l'ETag : la réponse les intègre.
+     * Renseignée seulement pour une réponse construite à partir de l'entité.
+     */
+    @JsonIgnore
+    private LocalDateTime usersUpdatedAt;
 }
@@ -0,0 +1,19 @@
+package com.taskflow.api.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookRequest {
+    
+    @NotBlank(message = "L'URL est requise")
+    @Size(max = 500, message = "L'URL ne doit pas dépasser 500 caractères")
+    private String url;
+}
@@ -0,0 +1,24 @@
+package com.taskflow.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WebhookResponse {
+    private Long id;
+    private String url;
+    private Boolean enabled;
+    private LocalDateTime createdAt;
+    
+    /**
+     * Clé de signature, renvoyée uniquement à la création.
+     */
+    private String secret;
+}
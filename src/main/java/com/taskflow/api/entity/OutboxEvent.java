@@ -0,0 +1,61 @@
+package com.taskflow.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Livraison d'un événement de tâche à un webhook, écrite dans la transaction de la modification
+ * et supprimée une fois acceptée par le destinataire.
+ */
+@Entity
+@Table(name = "task_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long webhookId;
+    
+    @Column(nullable = false)
+    private Long taskId;
+    
+    @Column(nullable = false, length = 20)
+    private String eventType;
+    
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+    
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+    
+    /**
+     * Fin du bail du dispatcher qui a réclamé la ligne ; une ligne dont le bail a expiré est de nouveau livrable.
+     */
+    private LocalDateTime lockedUntil;
+    
+    /**
+     * Renseignée après le dernier essai autorisé : la ligne n'est plus livrée ni ne bloque les suivantes.
+     */
+    private LocalDateTime deadAt;
+    
+    @Column(length = 500)
+    private String lastError;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+package com.taskflow.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jeton de rafraîchissement à usage unique : chaque utilisation le remplace par un nouveau.
+ */
+@Entity
+@Table(name = "refresh_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long userId;
+    
+    /**
+     * Empreinte SHA-256 (hexadécimale) du jeton remis au client.
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+    
+    /**
+     * {@link User#getTokenVersion()} au moment de l'émission.
+     */
+    @Column(nullable = false)
+    private Integer tokenVersion;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,37 @@
+package com.taskflow.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jeton d'accès révoqué, conservé jusqu'à son expiration.
+ */
+@Entity
+@Table(name = "revoked_tokens")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    /**
+     * Claim {@code jti} d'un jeton, ou {@code user:<id>:<version>} pour tous les jetons d'une version.
+     */
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenId;
+    
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -20,8 +21,11 @@ import java.util.Set;
 @AllArgsConstructor
 public class Task {
     
+    public static final int ID_ALLOCATION_SIZE = 50;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_id_seq")
+    @SequenceGenerator(name = "tasks_id_seq", sequenceName = "tasks_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @Column(nullable = false, length = 200)
@@ -45,8 +49,14 @@ public class Task {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "creator_id", nullable = false)
+    @ToString.Exclude
     private User creator;
     
+    /**
+     * Toujours lus dans {@code task_assignments}, jamais dans le cache de second niveau : les écritures
+     * s'en servent comme état antérieur (compteurs, événements, lignes d'assignation à insérer), et le cache
+     * d'une instance ignore les modifications faites sur les autres. Les utilisateurs restent dans la région {@code users}.
+     */
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "task_assignments",
@@ -54,6 +64,7 @@ public class Task {
         inverseJoinColumns = @JoinColumn(name = "user_id")
     )
     @Builder.Default
+    @ToString.Exclude
     private Set<User> assignedUsers = new HashSet<>();
     
     @CreationTimestamp
@@ -64,6 +75,29 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    /**
+     * Égalité sur l'identifiant, qu'une tâche transiente n'a pas encore : elle n'est alors égale qu'à elle-même.
+     * Le code de hachage ne dépend pas de l'identifiant, pour qu'une tâche ajoutée à un {@code HashSet}
+     * avant sa persistance y reste trouvable ensuite. {@code getId()} plutôt que le champ : un proxy
+     * Hibernate ne renseigne que ses accesseurs.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Task other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return Task.class.hashCode();
+    }
+    
     public enum Status {
         TODO, IN_PROGRESS, DONE, CANCELLED
     }
@@ -0,0 +1,68 @@
+package com.taskflow.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Compteur de tâches par périmètre (global, créateur, assigné), statut et priorité.
+ * Chaque compteur est réparti sur {@link #SLOTS} lignes : une transaction n'en modifie qu'une,
+ * tirée au hasard, et la valeur du compteur est la somme des lignes.
+ */
+@Entity
+@Table(name = "task_counters")
+@IdClass(TaskCounter.CounterId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskCounter {
+    
+    public static final int SLOTS = 16;
+    
+    /**
+     * Valeur de {@link #userId} pour le périmètre {@link Scope#ALL}.
+     */
+    public static final long NO_USER = 0L;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Scope scope;
+    
+    @Id
+    private Long userId;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Task.Status status;
+    
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Task.Priority priority;
+    
+    @Id
+    private Integer slot;
+    
+    @Column(nullable = false)
+    private Long taskCount;
+    
+    public enum Scope {
+        ALL, CREATOR, ASSIGNEE
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CounterId implements Serializable {
+        private Scope scope;
+        private Long userId;
+        private Task.Status status;
+        private Task.Priority priority;
+        private Integer slot;
+    }
+}
@@ -1,10 +1,14 @@
 package com.taskflow.api.entity;
 
+import com.taskflow.api.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,8 +16,19 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * Gardé dans le cache de second niveau (région {@code users}) : les listes de tâches ne lisent que les
+ * identifiants du créateur et des assignés, puis résolvent les utilisateurs ici.
+ * <p>
+ * L'identifiant vient de la séquence de la colonne {@code BIGSERIAL} plutôt que d'un {@code IDENTITY} :
+ * Hibernate ne place pas dans le cache une entité insérée par {@code IDENTITY}, un nouvel utilisateur
+ * n'y entrerait qu'à sa première lecture en base.
+ */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 @Data
 @Builder
 @NoArgsConstructor
@@ -21,7 +36,8 @@ import java.util.Set;
 public class User {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 1)
     private Long id;
     
     @Column(nullable = false, unique = true, length = 100)
@@ -48,12 +64,21 @@ public class User {
     @Builder.Default
     private Boolean enabled = true;
     
+    /**
+     * Recopiée dans les jetons ; l'incrémenter révoque les jetons de rafraîchissement déjà émis.
+     */
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tokenVersion = 0;
+    
     @ManyToMany(mappedBy = "assignedUsers", fetch = FetchType.LAZY)
     @Builder.Default
+    @ToString.Exclude
     private Set<Task> assignedTasks = new HashSet<>();
     
     @OneToMany(mappedBy = "creator", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
+    @ToString.Exclude
     private Set<Task> createdTasks = new HashSet<>();
     
     @CreationTimestamp
@@ -64,6 +89,22 @@ public class User {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
     
+    /**
+     * Même contrat que {@link Task#equals(Object)} : identifiant non nul, hachage constant.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof User other && id != null && id.equals(other.getId());
+    }
+    
+    @Override
+    public int hashCode() {
+        return User.class.hashCode();
+    }
+    
     public enum Role {
         USER, ADMIN
     }
@@ -0,0 +1,43 @@
+package com.taskflow.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Abonnement d'un système externe aux modifications de tâches.
+ */
+@Entity
+@Table(name = "webhooks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Webhook {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 500)
+    private String url;
+    
+    /**
+     * Clé HMAC-SHA256 de la signature {@code X-Taskflow-Signature} de chaque livraison.
+     */
+    @Column(nullable = false, length = 100)
+    private String secret;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean enabled = true;
+    
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package com.taskflow.api.exception;
+
+/**
+ * La version fournie par le client (If-Match) ne correspond plus à la ressource.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskflow.api.exception;
+
+/**
+ * L'instance a atteint une limite de capacité ; le client peut réessayer plus tard, éventuellement sur une autre instance.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxEvent, Long>, OutboxRepositoryCustom {
+    
+    /**
+     * Libère la ligne après un échec de livraison ; {@code deadAt} non nul abandonne la livraison.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent o SET o.attempts = :attempts, o.nextAttemptAt = :nextAttemptAt, o.lockedUntil = null, " +
+           "o.deadAt = :deadAt, o.lastError = :error WHERE o.id = :id")
+    int markFailed(
+        @Param("id") Long id,
+        @Param("attempts") int attempts,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+        @Param("deadAt") LocalDateTime deadAt,
+        @Param("error") String error
+    );
+}
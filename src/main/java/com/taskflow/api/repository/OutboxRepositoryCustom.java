@@ -0,0 +1,20 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.repository.projection.OutboxDelivery;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface OutboxRepositoryCustom {
+    
+    /**
+     * Ajoute une livraison par webhook actif, dans la transaction courante.
+     */
+    void enqueue(Long taskId, String eventType, String payload);
+    
+    /**
+     * Réclame au plus {@code limit} livraisons échues pour la durée du bail. Seule la plus ancienne
+     * livraison en attente d'une tâche pour un webhook est réclamable, ce qui préserve l'ordre par tâche.
+     */
+    List<OutboxDelivery> claim(int limit, Duration lease);
+}
@@ -0,0 +1,132 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.OutboxEvent;
+import com.taskflow.api.repository.projection.OutboxDelivery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+public class OutboxRepositoryCustomImpl implements OutboxRepositoryCustom {
+    
+    private static final String ENQUEUE_SQL =
+        "INSERT INTO task_outbox (webhook_id, task_id, event_type, payload, attempts, next_attempt_at, created_at) " +
+        "SELECT w.id, :taskId, :eventType, :payload, 0, :now, :now FROM webhooks w WHERE w.enabled = TRUE";
+    private static final String JDBC_ENQUEUE_SQL =
+        "INSERT INTO task_outbox (webhook_id, task_id, event_type, payload, attempts, next_attempt_at, created_at) " +
+        "SELECT w.id, ?, ?, ?, 0, ?, ? FROM webhooks w WHERE w.enabled = TRUE";
+    private static final String ANY_ENABLED_WEBHOOK_SQL =
+        "SELECT COUNT(*) FROM webhooks WHERE enabled = TRUE";
+    private static final String CLAIMABLE_SQL =
+        "SELECT c.id FROM task_outbox c " +
+        "WHERE c.dead_at IS NULL AND c.next_attempt_at <= :now " +
+        "AND (c.locked_until IS NULL OR c.locked_until < :now) " +
+        "AND NOT EXISTS (SELECT 1 FROM task_outbox p WHERE p.webhook_id = c.webhook_id " +
+        "AND p.task_id = c.task_id AND p.dead_at IS NULL AND p.id < c.id) " +
+        "ORDER BY c.id LIMIT :limit";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private Boolean postgreSql;
+    
+    /**
+     * Sans espace de requête déclaré, Hibernate viderait tout le cache de second niveau à chaque écriture native.
+     */
+    @Override
+    public void enqueue(Long taskId, String eventType, String payload) {
+        entityManager.createNativeQuery(ENQUEUE_SQL)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(OutboxEvent.class)
+            .setParameter("taskId", taskId)
+            .setParameter("eventType", eventType)
+            .setParameter("payload", payload)
+            .setParameter("now", LocalDateTime.now())
+            .executeUpdate();
+    }
+    
+    /**
+     * Variante JDBC pour les écritures qui contournent Hibernate (import COPY), dans la transaction de
+     * {@code connection} : une instruction par tâche, envoyées en lot. Sans webhook actif, rien n'est écrit
+     * et les charges utiles ne sont pas construites.
+     */
+    static void enqueue(
+        Connection connection, String eventType, List<Long> taskIds, Function<Long, String> payload
+    ) throws SQLException {
+        if (taskIds.isEmpty() || !anyEnabledWebhook(connection)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement insert = connection.prepareStatement(JDBC_ENQUEUE_SQL)) {
+            for (Long taskId : taskIds) {
+                insert.setLong(1, taskId);
+                insert.setString(2, eventType);
+                insert.setString(3, payload.apply(taskId));
+                insert.setObject(4, now);
+                insert.setObject(5, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+    
+    private static boolean anyEnabledWebhook(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(ANY_ENABLED_WEBHOOK_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getLong(1) > 0;
+        }
+    }
+    
+    /**
+     * Sous PostgreSQL, {@code SKIP LOCKED} laisse les lignes verrouillées par un autre dispatcher
+     * et la transaction se limite à la pose du bail : aucune connexion n'est tenue pendant les appels HTTP.
+     */
+    @Override
+    @Transactional
+    public List<OutboxDelivery> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        String sql = isPostgreSql() ? CLAIMABLE_SQL + " FOR UPDATE OF c SKIP LOCKED" : CLAIMABLE_SQL;
+        @SuppressWarnings("unchecked")
+        List<Number> rows = entityManager.createNativeQuery(sql)
+            .setParameter("now", now)
+            .setParameter("limit", limit)
+            .getResultList();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = rows.stream().map(Number::longValue).toList();
+        
+        entityManager.createQuery("UPDATE OutboxEvent o SET o.lockedUntil = :lockedUntil WHERE o.id IN :ids")
+            .setParameter("lockedUntil", now.plus(lease))
+            .setParameter("ids", ids)
+            .executeUpdate();
+        return entityManager.createQuery(
+                "SELECT new com.taskflow.api.repository.projection.OutboxDelivery(" +
+                "o.id, o.taskId, o.eventType, o.payload, o.attempts, w.url, w.secret) " +
+                "FROM OutboxEvent o JOIN Webhook w ON w.id = o.webhookId WHERE o.id IN :ids ORDER BY o.id",
+                OutboxDelivery.class)
+            .setParameter("ids", ids)
+            .getResultList();
+    }
+    
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            postgreSql = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgreSql;
+    }
+}
@@ -0,0 +1,14 @@
+package com.taskflow.api.repository;
+
+import java.time.LocalDateTime;
+
+public interface RevokedTokenRepositoryCustom {
+    
+    /**
+     * Enregistre la révocation si elle ne l'est pas déjà, en une instruction : deux révocations concurrentes
+     * du même jeton ne se heurtent pas à la contrainte d'unicité, qui annulerait la transaction appelante.
+     *
+     * @return {@code true} si la ligne a été insérée
+     */
+    boolean insertIfAbsent(String tokenId, LocalDateTime expiresAt, LocalDateTime revokedAt);
+}
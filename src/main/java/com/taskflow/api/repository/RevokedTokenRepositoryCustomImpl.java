@@ -0,0 +1,53 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.RevokedToken;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public class RevokedTokenRepositoryCustomImpl implements RevokedTokenRepositoryCustom {
+    
+    private static final String INSERT_SQL =
+        "INSERT INTO revoked_tokens (token_id, expires_at, revoked_at) VALUES (:tokenId, :expiresAt, :revokedAt)";
+    private static final String UPSERT_SQL = INSERT_SQL + " ON CONFLICT (token_id) DO NOTHING";
+    private static final String INSERT_MISSING_SQL =
+        "INSERT INTO revoked_tokens (token_id, expires_at, revoked_at) " +
+        "SELECT :tokenId, :expiresAt, :revokedAt WHERE NOT EXISTS " +
+        "(SELECT 1 FROM revoked_tokens WHERE token_id = :tokenId)";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private Boolean postgreSql;
+    
+    /**
+     * Sous PostgreSQL, {@code ON CONFLICT DO NOTHING} ; ailleurs (H2 en test), un {@code INSERT ... WHERE NOT EXISTS}
+     * qui ne protège pas des insertions concurrentes.
+     */
+    @Override
+    @Transactional
+    public boolean insertIfAbsent(String tokenId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        return entityManager.createNativeQuery(isPostgreSql() ? UPSERT_SQL : INSERT_MISSING_SQL)
+            .unwrap(NativeQuery.class)
+            .addSynchronizedEntityClass(RevokedToken.class)
+            .setParameter("tokenId", tokenId)
+            .setParameter("expiresAt", expiresAt)
+            .setParameter("revokedAt", revokedAt)
+            .executeUpdate() > 0;
+    }
+    
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            postgreSql = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgreSql;
+    }
+}
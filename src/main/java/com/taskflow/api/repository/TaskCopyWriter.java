@@ -0,0 +1,160 @@
+package com.taskflow.api.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Écrit des lots de tâches avec COPY, en contournant Hibernate.
+ * Chaque appel à {@link #write(List)} s'exécute dans sa propre transaction, compteurs de statistiques
+ * et livraisons aux webhooks compris : chaque tâche créée ajoute un événement {@code CREATED} à l'outbox,
+ * sans {@code task} (le destinataire relit la tâche s'il en a besoin).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCopyWriter {
+    
+    private static final String ALLOCATE_IDS_SQL =
+        "SELECT nextval('tasks_id_seq') FROM generate_series(1, ?)";
+    private static final String COPY_TASKS_SQL =
+        "COPY tasks (id, title, description, status, priority, due_date, creator_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_ASSIGNMENTS_SQL =
+        "COPY task_assignments (task_id, user_id) FROM STDIN WITH (FORMAT csv)";
+    
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    
+    public record Row(
+        String title,
+        String description,
+        Task.Status status,
+        Task.Priority priority,
+        LocalDateTime dueDate,
+        Long creatorId,
+        Set<Long> assigneeIds
+    ) {
+    }
+    
+    /**
+     * @return les identifiants attribués, dans l'ordre des lignes
+     */
+    public List<Long> write(List<Row> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<Long> ids = allocateIds(connection, rows.size());
+                StringBuilder tasks = new StringBuilder();
+                StringBuilder assignments = new StringBuilder();
+                TaskCounterDelta counters = new TaskCounterDelta();
+                for (int i = 0; i < rows.size(); i++) {
+                    Row row = rows.get(i);
+                    appendTask(tasks, ids.get(i), row);
+                    for (Long userId : row.assigneeIds()) {
+                        assignments.append(ids.get(i)).append(',').append(userId).append('\n');
+                    }
+                    counters.add(row.status(), row.priority(), row.creatorId(), row.assigneeIds(), 1);
+                }
+                
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                copyManager.copyIn(COPY_TASKS_SQL, new StringReader(tasks.toString()));
+                if (!assignments.isEmpty()) {
+                    copyManager.copyIn(COPY_ASSIGNMENTS_SQL, new StringReader(assignments.toString()));
+                }
+                TaskCounterRepositoryCustomImpl.apply(connection, counters);
+                OutboxRepositoryCustomImpl.enqueue(connection, TaskEvent.Type.CREATED.name(), ids, this::createdPayload);
+                connection.commit();
+                return ids;
+            } catch (IOException e) {
+                connection.rollback();
+                throw new SQLException(e);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+    
+    /**
+     * Les tâches copiées ont la version 0, valeur par défaut de la colonne.
+     */
+    private String createdPayload(Long taskId) {
+        try {
+            return objectMapper.writeValueAsString(TaskEvent.builder()
+                .type(TaskEvent.Type.CREATED)
+                .taskId(taskId)
+                .version(0L)
+                .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sérialisation de l'événement impossible", e);
+        }
+    }
+    
+    /**
+     * Réserve les identifiants par plages de {@link Task#ID_ALLOCATION_SIZE}, comme l'optimiseur
+     * « pooled » d'Hibernate : chaque valeur {@code hi} de la séquence couvre {@code ]hi - 50, hi]}.
+     */
+    private static List<Long> allocateIds(Connection connection, int count) throws SQLException {
+        int ranges = (count + Task.ID_ALLOCATION_SIZE - 1) / Task.ID_ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(ranges * Task.ID_ALLOCATION_SIZE);
+        try (PreparedStatement statement = connection.prepareStatement(ALLOCATE_IDS_SQL)) {
+            statement.setInt(1, ranges);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    long hi = resultSet.getLong(1);
+                    for (long id = Math.max(1, hi - Task.ID_ALLOCATION_SIZE + 1); id <= hi; id++) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        if (ids.size() < count) {
+            throw new SQLException("Plage d'identifiants insuffisante");
+        }
+        return ids.subList(0, count);
+    }
+    
+    private static void appendTask(StringBuilder out, Long id, Row row) {
+        out.append(id).append(',');
+        appendCsv(out, row.title()).append(',');
+        appendCsv(out, row.description()).append(',');
+        out.append(row.status().name()).append(',');
+        out.append(row.priority().name()).append(',');
+        if (row.dueDate() != null) {
+            out.append(row.dueDate());
+        }
+        out.append(',').append(row.creatorId()).append('\n');
+    }
+    
+    /**
+     * En CSV COPY, un champ vide non quoté vaut NULL : toute valeur non nulle est donc quotée.
+     */
+    private static StringBuilder appendCsv(StringBuilder out, String value) {
+        if (value == null) {
+            return out;
+        }
+        return out.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
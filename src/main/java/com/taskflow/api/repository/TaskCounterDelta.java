@@ -0,0 +1,94 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
+import com.taskflow.api.entity.User;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Variations des compteurs de tâches accumulées pendant une transaction.
+ * Les clés sont triées pour que toutes les transactions verrouillent les lignes dans le même ordre.
+ */
+public final class TaskCounterDelta {
+    
+    public record Key(TaskCounter.Scope scope, Long userId, Task.Status status, Task.Priority priority) {
+        
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::scope)
+            .thenComparing(Key::userId)
+            .thenComparing(Key::status)
+            .thenComparing(Key::priority);
+    }
+    
+    private final Map<Key, Long> deltas = new TreeMap<>(Key.ORDER);
+    
+    /**
+     * Ajoute la contribution de la tâche dans son état courant.
+     */
+    public TaskCounterDelta add(Task task) {
+        return add(task, 1);
+    }
+    
+    /**
+     * Retire la contribution de la tâche dans son état courant ; à appeler avant de la modifier.
+     */
+    public TaskCounterDelta remove(Task task) {
+        return add(task, -1);
+    }
+    
+    public TaskCounterDelta add(
+        Task.Status status,
+        Task.Priority priority,
+        Long creatorId,
+        Collection<Long> assigneeIds,
+        long count
+    ) {
+        add(new Key(TaskCounter.Scope.ALL, TaskCounter.NO_USER, status, priority), count);
+        add(new Key(TaskCounter.Scope.CREATOR, creatorId, status, priority), count);
+        for (Long assigneeId : assigneeIds) {
+            add(new Key(TaskCounter.Scope.ASSIGNEE, assigneeId, status, priority), count);
+        }
+        return this;
+    }
+    
+    public TaskCounterDelta add(Key key, long count) {
+        deltas.merge(key, count, Long::sum);
+        return this;
+    }
+    
+    public TaskCounterDelta negate() {
+        TaskCounterDelta negated = new TaskCounterDelta();
+        deltas.forEach((key, count) -> negated.add(key, -count));
+        return negated;
+    }
+    
+    /**
+     * Variations non nulles, dans l'ordre des clés.
+     */
+    public Map<Key, Long> entries() {
+        Map<Key, Long> entries = new TreeMap<>(Key.ORDER);
+        deltas.forEach((key, count) -> {
+            if (count != 0) {
+                entries.put(key, count);
+            }
+        });
+        return entries;
+    }
+    
+    public boolean isEmpty() {
+        return deltas.values().stream().allMatch(count -> count == 0);
+    }
+    
+    private TaskCounterDelta add(Task task, long count) {
+        return add(
+            task.getStatus(),
+            task.getPriority(),
+            task.getCreator().getId(),
+            task.getAssignedUsers().stream().map(User::getId).toList(),
+            count
+        );
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.TaskCounter;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounter.CounterId>, TaskCounterRepositoryCustom {
+    
+    @Query("SELECT new com.taskflow.api.repository.projection.TaskCountRow(c.status, c.priority, SUM(c.taskCount)) " +
+           "FROM TaskCounter c WHERE c.scope = :scope AND c.userId = :userId GROUP BY c.status, c.priority")
+    List<TaskCountRow> sumByScope(@Param("scope") TaskCounter.Scope scope, @Param("userId") Long userId);
+}
@@ -0,0 +1,29 @@
+package com.taskflow.api.repository;
+
+import java.util.Collection;
+
+public interface TaskCounterRepositoryCustom {
+    
+    /**
+     * Applique les variations dans la transaction courante, sur une seule répartition du compteur.
+     */
+    void apply(TaskCounterDelta delta);
+    
+    /**
+     * Contribution des tâches données aux compteurs, recalculée depuis les tables de tâches ;
+     * {@code null} pour toutes les tâches.
+     */
+    TaskCounterDelta countTasks(Collection<Long> taskIds);
+    
+    /**
+     * Valeur courante de chaque compteur, toutes répartitions confondues.
+     */
+    TaskCounterDelta sumCounters();
+    
+    /**
+     * Verrou de réconciliation propre à la transaction courante, libéré à son commit ou à son annulation.
+     *
+     * @return {@code false} si une autre transaction le détient déjà
+     */
+    boolean tryLockReconciliation();
+}
@@ -0,0 +1,151 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.Session;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class TaskCounterRepositoryCustomImpl implements TaskCounterRepositoryCustom {
+    
+    private static final String UPSERT_SQL =
+        "INSERT INTO task_counters (scope, user_id, status, priority, slot, task_count) VALUES (?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (scope, user_id, status, priority, slot) " +
+        "DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count";
+    private static final String UPDATE_SQL =
+        "UPDATE task_counters SET task_count = task_count + ? " +
+        "WHERE scope = ? AND user_id = ? AND status = ? AND priority = ? AND slot = ?";
+    private static final String INSERT_SQL =
+        "INSERT INTO task_counters (scope, user_id, status, priority, slot, task_count) VALUES (?, ?, ?, ?, ?, ?)";
+    // Clé de verrou consultatif arbitraire, propre à la réconciliation des compteurs
+    private static final long RECONCILE_LOCK_KEY = 0x7461736b5f636e74L;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public void apply(TaskCounterDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> apply(connection, delta));
+    }
+    
+    /**
+     * Variante JDBC pour les écritures qui contournent Hibernate (import COPY), sur leur propre connexion.
+     * Sous PostgreSQL, une seule instruction INSERT ... ON CONFLICT par ligne, en lot ; ailleurs
+     * (H2 en test), UPDATE puis INSERT si la ligne n'existe pas encore.
+     */
+    static void apply(Connection connection, TaskCounterDelta delta) throws SQLException {
+        Map<TaskCounterDelta.Key, Long> entries = delta.entries();
+        if (entries.isEmpty()) {
+            return;
+        }
+        int slot = ThreadLocalRandom.current().nextInt(TaskCounter.SLOTS);
+        if ("PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            try (PreparedStatement upsert = connection.prepareStatement(UPSERT_SQL)) {
+                for (Map.Entry<TaskCounterDelta.Key, Long> entry : entries.entrySet()) {
+                    bindKey(upsert, 1, entry.getKey(), slot);
+                    upsert.setLong(6, entry.getValue());
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+            }
+            return;
+        }
+        try (PreparedStatement update = connection.prepareStatement(UPDATE_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (Map.Entry<TaskCounterDelta.Key, Long> entry : entries.entrySet()) {
+                update.setLong(1, entry.getValue());
+                bindKey(update, 2, entry.getKey(), slot);
+                if (update.executeUpdate() == 0) {
+                    bindKey(insert, 1, entry.getKey(), slot);
+                    insert.setLong(6, entry.getValue());
+                    insert.executeUpdate();
+                }
+            }
+        }
+    }
+    
+    @Override
+    public TaskCounterDelta countTasks(Collection<Long> taskIds) {
+        String where = taskIds != null ? " WHERE t.id IN :ids" : "";
+        TaskCounterDelta delta = new TaskCounterDelta();
+        for (Object[] row : query("SELECT t.status, t.priority, t.creator.id, COUNT(t) FROM Task t" + where +
+                " GROUP BY t.status, t.priority, t.creator.id", taskIds).getResultList()) {
+            Task.Status status = (Task.Status) row[0];
+            Task.Priority priority = (Task.Priority) row[1];
+            long count = (Long) row[3];
+            delta.add(new TaskCounterDelta.Key(TaskCounter.Scope.ALL, TaskCounter.NO_USER, status, priority), count);
+            delta.add(new TaskCounterDelta.Key(TaskCounter.Scope.CREATOR, (Long) row[2], status, priority), count);
+        }
+        for (Object[] row : query("SELECT t.status, t.priority, u.id, COUNT(t) FROM Task t JOIN t.assignedUsers u" + where +
+                " GROUP BY t.status, t.priority, u.id", taskIds).getResultList()) {
+            delta.add(new TaskCounterDelta.Key(
+                TaskCounter.Scope.ASSIGNEE, (Long) row[2], (Task.Status) row[0], (Task.Priority) row[1]
+            ), (Long) row[3]);
+        }
+        return delta;
+    }
+    
+    @Override
+    public TaskCounterDelta sumCounters() {
+        TaskCounterDelta delta = new TaskCounterDelta();
+        List<Object[]> rows = entityManager.createQuery(
+                "SELECT c.scope, c.userId, c.status, c.priority, SUM(c.taskCount) FROM TaskCounter c " +
+                "GROUP BY c.scope, c.userId, c.status, c.priority", Object[].class)
+            .getResultList();
+        for (Object[] row : rows) {
+            delta.add(new TaskCounterDelta.Key(
+                (TaskCounter.Scope) row[0], (Long) row[1], (Task.Status) row[2], (Task.Priority) row[3]
+            ), (Long) row[4]);
+        }
+        return delta;
+    }
+    
+    /**
+     * Sous PostgreSQL, {@code pg_try_advisory_xact_lock} : partagé par toutes les instances, sans attente.
+     * Ailleurs (H2 en test, une seule instance), toujours accordé.
+     */
+    @Override
+    public boolean tryLockReconciliation() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return true;
+            }
+            try (PreparedStatement lock = connection.prepareStatement("SELECT pg_try_advisory_xact_lock(?)")) {
+                lock.setLong(1, RECONCILE_LOCK_KEY);
+                try (ResultSet result = lock.executeQuery()) {
+                    return result.next() && result.getBoolean(1);
+                }
+            }
+        });
+    }
+    
+    private TypedQuery<Object[]> query(String jpql, Collection<Long> taskIds) {
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql, Object[].class);
+        if (taskIds != null) {
+            query.setParameter("ids", taskIds);
+        }
+        return query;
+    }
+    
+    private static void bindKey(PreparedStatement statement, int index, TaskCounterDelta.Key key, int slot)
+        throws SQLException {
+        statement.setString(index, key.scope().name());
+        statement.setLong(index + 1, key.userId());
+        statement.setString(index + 2, key.status().name());
+        statement.setString(index + 3, key.priority().name());
+        statement.setInt(index + 4, slot);
+    }
+}
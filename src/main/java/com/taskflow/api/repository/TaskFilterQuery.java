@@ -0,0 +1,112 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.TaskFilter;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Clause WHERE d'une liste filtrée : seuls les critères renseignés produisent un prédicat,
+ * sans {@code (:x IS NULL OR ...)}, pour que chaque combinaison soit planifiée sur ses index.
+ */
+final class TaskFilterQuery {
+    
+    enum SearchMode {
+        LIKE, FULL_TEXT, TRIGRAM
+    }
+    
+    private final List<String> predicates = new ArrayList<>();
+    private final Map<String, Object> parameters = new HashMap<>();
+    private String leadingOrder;
+    
+    private TaskFilterQuery() {
+    }
+    
+    /**
+     * @param searchMode prédicat à employer pour {@link TaskFilter#getSearch()} ; ignoré sans recherche
+     */
+    static TaskFilterQuery of(TaskFilter filter, SearchMode searchMode) {
+        TaskFilterQuery query = new TaskFilterQuery();
+        if (filter.getStatus() != null) {
+            query.add("t.status = :status", "status", filter.getStatus());
+        }
+        if (filter.getPriority() != null) {
+            query.add("t.priority = :priority", "priority", filter.getPriority());
+        }
+        if (filter.getCreatorId() != null) {
+            query.add("t.creator.id = :creatorId", "creatorId", filter.getCreatorId());
+        }
+        if (filter.getDueFrom() != null) {
+            query.add("t.dueDate >= :dueFrom", "dueFrom", filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            query.add("t.dueDate <= :dueTo", "dueTo", filter.getDueTo());
+        }
+        query.addAssignees(filter);
+        if (hasSearch(filter)) {
+            query.addSearch(filter.getSearch(), searchMode);
+        }
+        return query;
+    }
+    
+    static boolean hasSearch(TaskFilter filter) {
+        return filter.getSearch() != null && !filter.getSearch().isBlank();
+    }
+    
+    String where() {
+        return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+    }
+    
+    /**
+     * Tri prioritaire imposé par le filtre (pertinence de la recherche plein texte), ou {@code null}.
+     */
+    String leadingOrder() {
+        return leadingOrder;
+    }
+    
+    <T> TypedQuery<T> bind(TypedQuery<T> query) {
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+    
+    /**
+     * Une sous-requête EXISTS par utilisateur en mode ALL : chacune se résout par l'index
+     * (user_id, task_id) de task_assignments, là où un COUNT(...) = n parcourrait les assignations.
+     */
+    private void addAssignees(TaskFilter filter) {
+        if (filter.getAssignedUserIds() == null || filter.getAssignedUserIds().isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>(new LinkedHashSet<>(filter.getAssignedUserIds()));
+        if (filter.getAssigneeMatch() == TaskFilter.AssigneeMatch.ALL) {
+            for (int i = 0; i < userIds.size(); i++) {
+                add("EXISTS (SELECT 1 FROM Task a JOIN a.assignedUsers u WHERE a = t AND u.id = :assignee" + i + ")",
+                    "assignee" + i, userIds.get(i));
+            }
+        } else {
+            add("EXISTS (SELECT 1 FROM Task a JOIN a.assignedUsers u WHERE a = t AND u.id IN :assignees)",
+                "assignees", userIds);
+        }
+    }
+    
+    private void addSearch(String search, SearchMode searchMode) {
+        switch (searchMode) {
+            case LIKE -> add("(LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')))", "keyword", search);
+            case FULL_TEXT -> {
+                add("task_fts_match(t.id, :keyword) = true", "keyword", TaskRepositoryCustomImpl.toPrefixTsQuery(search));
+                leadingOrder = "task_fts_rank(t.id, :keyword) DESC";
+            }
+            case TRIGRAM -> add("task_trgm_match(t.id, :keyword) = true", "keyword", TaskRepositoryCustomImpl.toLikePattern(search));
+        }
+    }
+    
+    private void add(String predicate, String name, Object value) {
+        predicates.add(predicate);
+        parameters.put(name, value);
+    }
+}
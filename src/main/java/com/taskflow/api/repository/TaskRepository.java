@@ -1,6 +1,8 @@
 package com.taskflow.api.repository;
 
 import com.taskflow.api.entity.Task;
+import com.taskflow.api.repository.projection.TaskRow;
+import com.taskflow.api.repository.projection.TaskValidator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,31 +10,21 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    
-    Page<Task> findByCreatorId(Long creatorId, Pageable pageable);
-    
-    @Query("SELECT t FROM Task t JOIN t.assignedUsers u WHERE u.id = :userId")
-    Page<Task> findByAssignedUserId(@Param("userId") Long userId, Pageable pageable);
-    
-    Page<Task> findByStatus(Task.Status status, Pageable pageable);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
     
-    Page<Task> findByPriority(Task.Priority priority, Pageable pageable);
+    @Query(value = TaskRow.SELECT, countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskRow> findAllRows(Pageable pageable);
     
-    @Query("SELECT t FROM Task t WHERE " +
-           "LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Task> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT new com.taskflow.api.repository.projection.TaskValidator(" +
+        "t.version, c.updatedAt, MAX(a.updatedAt)) " +
+        "FROM Task t JOIN t.creator c LEFT JOIN t.assignedUsers a WHERE t.id = :id GROUP BY t.version, c.updatedAt")
+    Optional<TaskValidator> findValidatorById(@Param("id") Long id);
     
-    @Query("SELECT t FROM Task t WHERE " +
-           "(:status IS NULL OR t.status = :status) AND " +
-           "(:priority IS NULL OR t.priority = :priority) AND " +
-           "(:creatorId IS NULL OR t.creator.id = :creatorId)")
-    Page<Task> findByFilters(
-        @Param("status") Task.Status status,
-        @Param("priority") Task.Priority priority,
-        @Param("creatorId") Long creatorId,
-        Pageable pageable
-    );
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.assignedUsers WHERE t.id IN :ids")
+    List<Task> findAllWithAssignedUsers(@Param("ids") Collection<Long> ids);
 }
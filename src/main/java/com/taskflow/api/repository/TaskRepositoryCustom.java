@@ -0,0 +1,59 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.projection.AssigneeRow;
+import com.taskflow.api.repository.projection.TaskRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface TaskRepositoryCustom {
+    
+    /**
+     * Page filtrée : seuls les critères renseignés du filtre sont appliqués, combinés par ET.
+     */
+    Page<TaskRow> findByFilter(TaskFilter filter, Pageable pageable);
+    
+    /**
+     * @param withDescription {@code false} pour ne pas lire la description ({@code null} dans les lignes)
+     */
+    Page<TaskRow> findByFilter(TaskFilter filter, Pageable pageable, boolean withDescription);
+    
+    /**
+     * Page suivant la clé ({@code afterValue}, {@code afterId}), restreinte par les mêmes critères que {@link #findByFilter}.
+     * Le tri reste celui de la clé : une recherche filtre sans classer par pertinence.
+     */
+    List<TaskRow> findKeysetPage(
+        TaskFilter filter,
+        String sortBy,
+        Sort.Direction direction,
+        LocalDateTime afterValue,
+        Long afterId,
+        int limit,
+        boolean withDescription
+    );
+    
+    Stream<Task> streamByFilter(TaskFilter filter, int fetchSize);
+    
+    Map<Long, List<User>> findAssignedUsersByTaskIds(Collection<Long> taskIds);
+    
+    /**
+     * Couples (tâche, utilisateur) lus dans {@code task_assignments} seule, sans joindre {@code users}.
+     */
+    List<AssigneeRow> findAssigneeRows(Collection<Long> taskIds);
+    
+    /**
+     * Empreinte de l'état des listes : nombre de tâches (compteurs {@code task_counters}, sans compter la table),
+     * dernière modification des tâches et des utilisateurs, chacune lue par un index.
+     * Toute création, modification ou suppression de tâche, et toute modification d'utilisateur, la fait évoluer.
+     */
+    String findListFingerprint();
+}
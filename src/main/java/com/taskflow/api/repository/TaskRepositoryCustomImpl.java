@@ -0,0 +1,261 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.projection.AssigneeRow;
+import com.taskflow.api.repository.projection.TaskRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    
+    private static final Map<String, String> KEYSET_COLUMNS = Map.of(
+        "createdAt", "t.createdAt",
+        "updatedAt", "t.updatedAt"
+    );
+    // pg_trgm n'extrait aucun trigramme d'un fragment plus court : l'index GIN ne servirait pas
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    private Boolean postgreSql;
+    
+    /**
+     * Avec une recherche sous PostgreSQL, la correspondance plein texte est tentée d'abord ;
+     * si elle ne trouve rien, la même liste est relancée avec le repli trigramme. Une recherche
+     * de moins de {@link #MIN_TRIGRAM_LENGTH} caractères n'a pas de repli : elle ne pourrait pas utiliser l'index.
+     */
+    @Override
+    public Page<TaskRow> findByFilter(TaskFilter filter, Pageable pageable) {
+        return findByFilter(filter, pageable, true);
+    }
+    
+    @Override
+    public Page<TaskRow> findByFilter(TaskFilter filter, Pageable pageable, boolean withDescription) {
+        String select = select(withDescription);
+        if (!TaskFilterQuery.hasSearch(filter)) {
+            return findPage(select, TaskFilterQuery.of(filter, null), pageable);
+        }
+        if (!isPostgreSql()) {
+            return findPage(select, TaskFilterQuery.of(filter, TaskFilterQuery.SearchMode.LIKE), pageable);
+        }
+        if (toPrefixTsQuery(filter.getSearch()) != null) {
+            TaskFilterQuery fullText = TaskFilterQuery.of(filter, TaskFilterQuery.SearchMode.FULL_TEXT);
+            List<TaskRow> matches = findContent(select, fullText, pageable);
+            // Une page vide ne se compte pas : seule une page au-delà de la première vérifie qu'il existe des résultats
+            if (!matches.isEmpty() || filter.getSearch().strip().length() < MIN_TRIGRAM_LENGTH
+                || pageable.isPaged() && pageable.getOffset() > 0 && exists(fullText)) {
+                return page(matches, fullText, pageable);
+            }
+        }
+        return findPage(select, TaskFilterQuery.of(filter, TaskFilterQuery.SearchMode.TRIGRAM), pageable);
+    }
+    
+    @Override
+    public List<TaskRow> findKeysetPage(
+        TaskFilter filter,
+        String sortBy,
+        Sort.Direction direction,
+        LocalDateTime afterValue,
+        Long afterId,
+        int limit,
+        boolean withDescription
+    ) {
+        String sortColumn = KEYSET_COLUMNS.get(sortBy);
+        if (sortColumn == null) {
+            throw new IllegalArgumentException("Tri non supporté en mode curseur : " + sortBy);
+        }
+        String order = direction.isAscending() ? "ASC" : "DESC";
+        TaskFilterQuery filterQuery = TaskFilterQuery.of(filter, searchMode(filter));
+        
+        StringBuilder jpql = new StringBuilder(select(withDescription)).append(filterQuery.where());
+        if (afterId != null) {
+            jpql.append(filterQuery.where().isEmpty() ? " WHERE (" : " AND (").append(sortColumn).append(", t.id) ")
+                .append(direction.isAscending() ? ">" : "<")
+                .append(" (:afterValue, :afterId)");
+        }
+        jpql.append(" ORDER BY ").append(sortColumn).append(' ').append(order)
+            .append(", t.id ").append(order);
+        
+        TypedQuery<TaskRow> query = filterQuery.bind(entityManager.createQuery(jpql.toString(), TaskRow.class))
+            .setMaxResults(limit);
+        if (afterId != null) {
+            query.setParameter("afterValue", afterValue);
+            query.setParameter("afterId", afterId);
+        }
+        return query.getResultList();
+    }
+    
+    @Override
+    public Stream<Task> streamByFilter(TaskFilter filter, int fetchSize) {
+        TaskFilterQuery filterQuery = TaskFilterQuery.of(filter, searchMode(filter));
+        
+        String jpql = "SELECT t FROM Task t JOIN FETCH t.creator" + filterQuery.where() + " ORDER BY t.id";
+        return filterQuery.bind(entityManager.createQuery(jpql, Task.class))
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+    
+    @Override
+    public Map<Long, List<User>> findAssignedUsersByTaskIds(Collection<Long> taskIds) {
+        Map<Long, List<User>> assignedUsers = new HashMap<>();
+        if (taskIds.isEmpty()) {
+            return assignedUsers;
+        }
+        entityManager.createQuery(
+                "SELECT t.id, u FROM Task t JOIN t.assignedUsers u WHERE t.id IN :ids", Object[].class)
+            .setParameter("ids", taskIds)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultList()
+            .forEach(row -> assignedUsers
+                .computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                .add((User) row[1]));
+        return assignedUsers;
+    }
+    
+    /**
+     * L'espace de requête déclaré limite le flush automatique préalable aux modifications d'assignations.
+     */
+    @Override
+    public List<AssigneeRow> findAssigneeRows(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT task_id, user_id FROM task_assignments WHERE task_id IN (:ids)")
+            .unwrap(NativeQuery.class)
+            .addSynchronizedQuerySpace("task_assignments")
+            .setParameter("ids", taskIds)
+            .getResultList();
+        return rows.stream()
+            .map(row -> new AssigneeRow(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+            .toList();
+    }
+    
+    @Override
+    public String findListFingerprint() {
+        Object[] row = entityManager.createQuery(
+                "SELECT (SELECT COALESCE(SUM(c.taskCount), 0) FROM TaskCounter c WHERE c.scope = :scope), " +
+                "MAX(t.updatedAt), (SELECT MAX(u.updatedAt) FROM User u) FROM Task t", Object[].class)
+            .setParameter("scope", TaskCounter.Scope.ALL)
+            .getSingleResult();
+        return Arrays.stream(row)
+            .map(String::valueOf)
+            .collect(Collectors.joining("|"));
+    }
+    
+    private Page<TaskRow> findPage(String select, TaskFilterQuery filterQuery, Pageable pageable) {
+        return page(findContent(select, filterQuery, pageable), filterQuery, pageable);
+    }
+    
+    private List<TaskRow> findContent(String select, TaskFilterQuery filterQuery, Pageable pageable) {
+        StringBuilder orderBy = new StringBuilder();
+        if (filterQuery.leadingOrder() != null) {
+            orderBy.append(filterQuery.leadingOrder());
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            orderBy.append(orderBy.isEmpty() ? "" : ", ")
+                .append("t.").append(sortProperty(order.getProperty()))
+                .append(order.isAscending() ? " ASC" : " DESC");
+        }
+        
+        String jpql = select + filterQuery.where()
+            + (orderBy.isEmpty() ? "" : " ORDER BY " + orderBy);
+        TypedQuery<TaskRow> query = filterQuery.bind(entityManager.createQuery(jpql, TaskRow.class));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+    
+    /**
+     * Le comptage n'est exécuté que si la page ne suffit pas à déduire le total.
+     */
+    private Page<TaskRow> page(List<TaskRow> content, TaskFilterQuery filterQuery, Pageable pageable) {
+        return PageableExecutionUtils.getPage(content, pageable, () ->
+            filterQuery.bind(entityManager.createQuery("SELECT COUNT(t) FROM Task t" + filterQuery.where(), Long.class))
+                .getSingleResult()
+        );
+    }
+    
+    private boolean exists(TaskFilterQuery filterQuery) {
+        return !filterQuery.bind(entityManager.createQuery("SELECT t.id FROM Task t" + filterQuery.where(), Long.class))
+            .setMaxResults(1)
+            .getResultList()
+            .isEmpty();
+    }
+    
+    /**
+     * Mode de recherche d'une lecture en une passe, sans le repli trigramme de {@link #findByFilter}
+     * quand la recherche plein texte ne trouve rien.
+     */
+    private TaskFilterQuery.SearchMode searchMode(TaskFilter filter) {
+        if (!isPostgreSql()) {
+            return TaskFilterQuery.SearchMode.LIKE;
+        }
+        return TaskFilterQuery.hasSearch(filter) && toPrefixTsQuery(filter.getSearch()) != null
+            ? TaskFilterQuery.SearchMode.FULL_TEXT
+            : TaskFilterQuery.SearchMode.TRIGRAM;
+    }
+    
+    private static String select(boolean withDescription) {
+        return withDescription ? TaskRow.SELECT : TaskRow.SELECT_WITHOUT_DESCRIPTION;
+    }
+    
+    private String sortProperty(String property) {
+        entityManager.getMetamodel().entity(Task.class).getSingularAttribute(property);
+        return property;
+    }
+    
+    private boolean isPostgreSql() {
+        if (postgreSql == null) {
+            postgreSql = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgreSql;
+    }
+    
+    static String toPrefixTsQuery(String keyword) {
+        String tsQuery = Arrays.stream(keyword.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+            .filter(term -> !term.isEmpty())
+            .map(term -> term + ":*")
+            .collect(Collectors.joining(" & "));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+    
+    static String toLikePattern(String keyword) {
+        String escaped = keyword
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
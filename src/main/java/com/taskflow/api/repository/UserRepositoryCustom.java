@@ -0,0 +1,23 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.User;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    
+    /**
+     * Utilisateurs par identifiant, servis par le cache de second niveau quand il les contient ;
+     * seuls les absents sont lus, en une requête. Les identifiants inconnus sont ignorés.
+     */
+    Map<Long, User> findCachedByIds(Collection<Long> ids);
+    
+    /**
+     * Utilisateur relu sur le primaire sans passer par le cache de second niveau, dont l'entrée est remplacée.
+     * Pour les contrôles de sécurité (compte actif, {@code token_version}) : le cache de chaque instance peut
+     * garder jusqu'à 5 min une modification faite sur une autre.
+     */
+    Optional<User> findUncachedById(Long id);
+}
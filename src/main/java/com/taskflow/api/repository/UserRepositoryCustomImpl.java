@@ -0,0 +1,59 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.User;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * Contrairement à {@code findAllById} (une requête {@code IN}), le chargement multiple d'Hibernate
+     * consulte le contexte de persistance puis le cache de second niveau avant la base.
+     * Sans mode de cache explicite, il ne lit pas le second niveau : il reprend celui de la session
+     * ({@code GET} sur un réplica, qui lit le cache sans le remplir).
+     */
+    @Override
+    public Map<Long, User> findCachedByIds(Collection<Long> ids) {
+        Map<Long, User> users = new HashMap<>();
+        if (ids.isEmpty()) {
+            return users;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        List<User> loaded = session
+            .byMultipleIds(User.class)
+            .enableSessionCheck(true)
+            .with(session.getCacheMode())
+            .multiLoad(new ArrayList<>(ids));
+        for (User user : loaded) {
+            if (user != null) {
+                users.put(user.getId(), user);
+            }
+        }
+        return users;
+    }
+    
+    @Override
+    @Transactional
+    public Optional<User> findUncachedById(Long id) {
+        // READ_WRITE ne remplace pas une entrée existante au chargement d'une entité non versionnée : l'écarter d'abord
+        entityManager.getEntityManagerFactory().getCache().evict(User.class, id);
+        return Optional.ofNullable(entityManager.find(User.class, id, Map.of(
+            "jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS,
+            "jakarta.persistence.cache.storeMode", CacheStoreMode.USE
+        )));
+    }
+}
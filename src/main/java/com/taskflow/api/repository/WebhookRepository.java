@@ -0,0 +1,9 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.Webhook;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WebhookRepository extends JpaRepository<Webhook, Long> {
+}
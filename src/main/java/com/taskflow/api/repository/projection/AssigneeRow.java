@@ -0,0 +1,7 @@
+package com.taskflow.api.repository.projection;
+
+/**
+ * Assignation d'un utilisateur à une tâche, lue dans la table de jointure seule.
+ */
+public record AssigneeRow(Long taskId, Long userId) {
+}
@@ -0,0 +1,15 @@
+package com.taskflow.api.repository.projection;
+
+/**
+ * Ligne d'outbox réclamée par un dispatcher, avec la destination de son webhook.
+ */
+public record OutboxDelivery(
+    Long id,
+    Long taskId,
+    String eventType,
+    String payload,
+    Integer attempts,
+    String url,
+    String secret
+) {
+}
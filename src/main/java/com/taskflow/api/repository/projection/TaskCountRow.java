@@ -0,0 +1,9 @@
+package com.taskflow.api.repository.projection;
+
+import com.taskflow.api.entity.Task;
+
+/**
+ * Nombre de tâches pour un couple (statut, priorité) d'un périmètre de compteurs.
+ */
+public record TaskCountRow(Task.Status status, Task.Priority priority, Long count) {
+}
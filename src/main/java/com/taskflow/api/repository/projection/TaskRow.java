@@ -0,0 +1,40 @@
+package com.taskflow.api.repository.projection;
+
+import com.taskflow.api.entity.Task;
+
+import java.time.LocalDateTime;
+
+/**
+ * Ligne de liste : colonnes de la tâche et identifiant de son créateur, lues par une expression
+ * constructeur JPQL. Aucune entité n'entre dans le contexte de persistance ; le créateur est résolu
+ * ensuite par le cache de second niveau des utilisateurs.
+ */
+public record TaskRow(
+    Long id,
+    String title,
+    String description,
+    Task.Status status,
+    Task.Priority priority,
+    LocalDateTime dueDate,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    Long version,
+    Long creatorId
+) {
+    
+    private static final String CONSTRUCTOR = "SELECT new com.taskflow.api.repository.projection.TaskRow(t.id, t.title, ";
+    private static final String REMAINING_COLUMNS = ", t.status, t.priority, t.dueDate, t.createdAt, t.updatedAt, t.version, "
+        + "t.creator.id) "
+        + "FROM Task t";
+    
+    /**
+     * Début de requête pour ce constructeur ; la tâche a pour alias {@code t}. L'identifiant du créateur
+     * est la clé étrangère de {@code tasks} : la requête ne joint pas {@code users}.
+     */
+    public static final String SELECT = CONSTRUCTOR + "t.description" + REMAINING_COLUMNS;
+    
+    /**
+     * Même requête sans lire la description, seule colonne de taille non bornée : elle vaut {@code null}.
+     */
+    public static final String SELECT_WITHOUT_DESCRIPTION = CONSTRUCTOR + "cast(null as String)" + REMAINING_COLUMNS;
+}
@@ -0,0 +1,21 @@
+package com.taskflow.api.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * De quoi recalculer l'ETag d'une tâche sans la charger : sa version et la dernière modification
+ * des utilisateurs intégrés à la réponse (créateur et assignés).
+ */
+public record TaskValidator(Long version, LocalDateTime usersUpdatedAt) {
+    
+    public TaskValidator(Long version, LocalDateTime creatorUpdatedAt, LocalDateTime assigneesUpdatedAt) {
+        this(version, latest(creatorUpdatedAt, assigneesUpdatedAt));
+    }
+    
+    public static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null || first.isAfter(second) ? first : second;
+    }
+}
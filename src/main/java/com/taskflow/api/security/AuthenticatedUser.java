@@ -0,0 +1,56 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.entity.User;
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Principal reconstruit à partir des claims du jeton d'accès, sans lecture en base.
+ * {@link #getName()} renvoie l'email : {@code authentication.getName()} reste l'identifiant des contrôleurs.
+ */
+public record AuthenticatedUser(Long id, String email, User.Role role, int tokenVersion) implements AuthenticatedPrincipal {
+    
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String TOKEN_VERSION_CLAIM = "ver";
+    
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getRole(), user.getTokenVersion());
+    }
+    
+    /**
+     * @return {@code null} si le jeton ne porte pas les claims du principal (jeton émis avant leur introduction)
+     */
+    public static AuthenticatedUser fromClaims(Claims claims) {
+        Long id = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        if (id == null || role == null || tokenVersion == null || claims.getSubject() == null) {
+            return null;
+        }
+        return new AuthenticatedUser(id, claims.getSubject(), User.Role.valueOf(role), tokenVersion);
+    }
+    
+    public Map<String, Object> toClaims() {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, id);
+        claims.put(ROLE_CLAIM, role.name());
+        claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
+        return claims;
+    }
+    
+    public List<GrantedAuthority> authorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+    
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskflow.api.security;
 
+import com.taskflow.api.config.ReplicaRoutingDataSource;
 import com.taskflow.api.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,13 +17,19 @@ import java.util.Collections;
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
     
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        com.taskflow.api.entity.User user = userRepository.findByEmail(email)
+        return userDetailsCache.get(email, this::loadPrincipal);
+    }
+    
+    private UserDetailsCache.CachedPrincipal loadPrincipal(String email) {
+        // Mis en cache : lu sur le primaire, pas sur un réplica en retard
+        com.taskflow.api.entity.User user = ReplicaRoutingDataSource.readFromPrimary(() -> userRepository.findByEmail(email))
             .orElseThrow(() -> new UsernameNotFoundException("Utilisateur introuvable avec l'email : " + email));
         
-        return User.builder()
+        UserDetails userDetails = User.builder()
             .username(user.getEmail())
             .password(user.getPassword())
             .authorities(Collections.singletonList(
@@ -33,5 +40,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             .credentialsExpired(false)
             .disabled(!user.getEnabled())
             .build();
+        
+        return new UserDetailsCache.CachedPrincipal(user.getId(), userDetails);
     }
 }
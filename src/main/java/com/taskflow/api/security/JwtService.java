@@ -1,9 +1,13 @@
 package com.taskflow.api.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -11,16 +15,36 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
     
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
+    private final VerifiedTokenCache tokenCache;
+    private final Timer verifyTimer;
     
-    @Value("${jwt.expiration}")
-    private Long jwtExpiration;
+    public JwtService(
+        @Value("${jwt.secret}") String secretKey,
+        @Value("${jwt.expiration}") long jwtExpiration,
+        VerifiedTokenCache tokenCache,
+        MeterRegistry meterRegistry
+    ) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser()
+            .verifyWith(signInKey)
+            .build();
+        this.jwtExpiration = jwtExpiration;
+        this.tokenCache = tokenCache;
+        // Seules les vérifications de signature sont mesurées : un succès du cache n'est pas une vérification
+        this.verifyTimer = Timer.builder("taskflow.jwt.verify")
+            .description("Durée de vérification de la signature des JWT absents du cache")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
     
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -31,10 +55,21 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
     
+    @Timed(value = "taskflow.jwt.generate", histogram = true)
     public String generateToken(String username) {
         return generateToken(new HashMap<>(), username);
     }
     
+    /**
+     * Jeton d'accès portant l'id, le rôle et la version de jetons de l'utilisateur : le filtre
+     * d'authentification reconstruit le principal sans lecture en base.
+     */
+    @Timed(value = "taskflow.jwt.generate", histogram = true)
+    public String generateToken(AuthenticatedUser user) {
+        return generateToken(user.toClaims(), user.email());
+    }
+    
+    @Timed(value = "taskflow.jwt.generate", histogram = true)
     public String generateToken(Map<String, Object> extraClaims, String username) {
         return buildToken(extraClaims, username, jwtExpiration);
     }
@@ -47,35 +82,35 @@ public class JwtService {
         return Jwts.builder()
             .claims(extraClaims)
             .subject(username)
+            // jti : identifiant de révocation (TokenRevocationList)
+            .id(UUID.randomUUID().toString())
             .issuedAt(new Date(System.currentTimeMillis()))
             .expiration(new Date(System.currentTimeMillis() + expiration))
-            .signWith(getSignInKey())
+            .signWith(signInKey)
             .compact();
     }
     
+    public long getExpirationMillis() {
+        return jwtExpiration;
+    }
+    
     public boolean isTokenValid(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username)) && !isTokenExpired(token);
+        return isTokenValid(extractAllClaims(token), username);
     }
     
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(Claims claims, String username) {
+        return username.equals(claims.getSubject()) && !isTokenExpired(claims);
     }
     
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
     
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-            .verifyWith(getSignInKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+    public Claims extractAllClaims(String token) {
+        return tokenCache.get(token, this::verifyClaims);
     }
     
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private Claims verifyClaims(String token) {
+        return verifyTimer.record(() -> jwtParser.parseSignedClaims(token).getPayload());
     }
 }
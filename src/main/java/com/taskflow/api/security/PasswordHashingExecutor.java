@@ -0,0 +1,63 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Pool dédié aux hachages de mot de passe de la connexion. BCrypt est une charge CPU : un nombre fixe de threads
+ * et une file bornée laissent le reste des cœurs aux autres requêtes pendant un afflux de connexions.
+ * File pleine : rejet immédiat (503) plutôt qu'une attente qui dépasserait le délai du client.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+    
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    
+    public PasswordHashingExecutor(
+        @Value("${taskflow.security.password.threads:0}") int threads,
+        @Value("${taskflow.security.password.queue-capacity:64}") int queueCapacity,
+        MeterRegistry meterRegistry
+    ) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+            poolSize, poolSize,
+            0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.rejected = Counter.builder("taskflow.password.hash.rejected")
+            .description("Connexions refusées faute de place dans la file de hachage")
+            .register(meterRegistry);
+    }
+    
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Trop de connexions en cours, réessayez dans un instant");
+        }
+    }
+    
+    public ThreadPoolExecutor getExecutor() {
+        return executor;
+    }
+    
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
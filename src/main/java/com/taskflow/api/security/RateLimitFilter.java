@@ -0,0 +1,98 @@
+package com.taskflow.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.exception.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contrôle d'admission placé juste après {@link JwtAuthenticationFilter} : la première règle dont un préfixe
+ * correspond au chemin s'applique, par utilisateur authentifié ou par adresse IP. Une requête refusée reçoit
+ * 429 avec {@code Retry-After} sans atteindre le contrôleur.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private final List<Rule> rules;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    
+    public RateLimitFilter(List<Rule> rules, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.rules = List.copyOf(rules);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Rule rule = rules.stream().filter(candidate -> candidate.matches(path)).findFirst().orElse(null);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        long waitNanos = rule.limiter().tryAcquire(key(rule, request));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        
+        meterRegistry.counter("taskflow.ratelimit.rejected", "rule", rule.name()).increment();
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Trop de requêtes",
+            "Limite de débit atteinte, réessayez dans " + retryAfter + " s",
+            request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+    
+    private static String key(Rule rule, HttpServletRequest request) {
+        if (!rule.byClientIp()) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        // Derrière un proxy, server.forward-headers-strategy fait refléter X-Forwarded-For par getRemoteAddr()
+        return "ip:" + request.getRemoteAddr();
+    }
+    
+    /**
+     * @param byClientIp clé par adresse IP même si la requête porte un jeton (routes d'authentification)
+     */
+    public record Rule(String name, List<String> pathPrefixes, boolean byClientIp, RateLimiter limiter) {
+        
+        boolean matches(String path) {
+            return pathPrefixes.stream().anyMatch(path::startsWith);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskflow.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Seau à jetons sous forme GCRA (generic cell rate algorithm) : l'état d'une clé se réduit à l'instant d'arrivée
+ * théorique de sa prochaine requête. Une requête est admise tant que cet instant ne dépasse pas « maintenant + rafale ».
+ * La mise à jour est un compare-and-set sur la seule clé concernée : aucun verrou, et deux clés ne se disputent rien.
+ */
+public class RateLimiter {
+    
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final Cache<String, AtomicLong> arrivals;
+    private final LongSupplier clock;
+    
+    public RateLimiter(double permitsPerSecond, int burst, long maxKeys) {
+        this(permitsPerSecond, burst, maxKeys, System::nanoTime);
+    }
+    
+    RateLimiter(double permitsPerSecond, int burst, long maxKeys, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Le débit et la rafale doivent être positifs");
+        }
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        // Une clé inactive pendant la durée d'une rafale a retrouvé tous ses jetons : l'oublier ne change rien
+        this.arrivals = Caffeine.newBuilder()
+            .maximumSize(maxKeys)
+            .expireAfterAccess(Duration.ofNanos(burstNanos))
+            .build();
+        this.clock = clock;
+    }
+    
+    /**
+     * @return 0 si la requête est admise, sinon le délai en nanosecondes avant qu'elle puisse l'être
+     */
+    public long tryAcquire(String key) {
+        AtomicLong arrival = arrivals.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = clock.getAsLong();
+        while (true) {
+            long current = arrival.get();
+            long next = Math.max(current, now) + emissionIntervalNanos;
+            long wait = next - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.config.ReplicaRoutingDataSource;
+import com.taskflow.api.entity.RevokedToken;
+import com.taskflow.api.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Jetons d'accès révoqués, tenus en mémoire sur chaque instance. Un filtre de Bloom répond sans verrou au cas
+ * courant, « non révoqué », en quelques dizaines de nanosecondes ; l'ensemble exact ne tranche que ses positifs.
+ * La table revoked_tokens est relue par incréments pour les révocations faites sur d'autres instances, et les
+ * entrées expirées sont purgées, le filtre étant alors reconstruit.
+ * <p>
+ * Relecture et purge ont leur propre thread, hors du planificateur partagé : elles tournent même avec
+ * {@code taskflow.scheduling.enabled=false}, et une livraison de webhooks lente ne retarde pas une révocation.
+ */
+@Component
+public class TokenRevocationList implements DisposableBean {
+    
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long capacity;
+    private final double fpp;
+    private final Duration pollOverlap;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // Écritures seulement ; pas de synchronized, qui épinglerait un thread virtuel
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Counter notRevoked;
+    private final Counter revokedHits;
+    private final Counter falsePositives;
+    private final Counter pollFailures;
+    private final Counter purgeFailures;
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("token-revocation").factory());
+    private volatile BloomFilter bloom;
+    private volatile LocalDateTime lastPoll;
+    
+    public TokenRevocationList(
+        RevokedTokenRepository revokedTokenRepository,
+        MeterRegistry meterRegistry,
+        @Value("${taskflow.security.revocation.capacity:100000}") long capacity,
+        @Value("${taskflow.security.revocation.fpp:0.01}") double fpp,
+        @Value("${taskflow.security.revocation.poll-interval:1s}") Duration pollInterval,
+        @Value("${taskflow.security.revocation.poll-overlap:10s}") Duration pollOverlap,
+        @Value("${taskflow.security.revocation.purge-interval:10m}") Duration purgeInterval
+    ) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.capacity = capacity;
+        this.fpp = fpp;
+        this.pollOverlap = pollOverlap;
+        this.bloom = new BloomFilter(capacity, fpp);
+        this.notRevoked = lookups(meterRegistry, "not_revoked");
+        this.revokedHits = lookups(meterRegistry, "revoked");
+        this.falsePositives = lookups(meterRegistry, "false_positive");
+        this.pollFailures = failures(meterRegistry, "poll");
+        this.purgeFailures = failures(meterRegistry, "purge");
+        schedule(this::refresh, pollInterval, pollFailures);
+        schedule(this::purge, purgeInterval, purgeFailures);
+    }
+    
+    /**
+     * Identifiant révoquant tous les jetons d'accès d'un utilisateur émis sous une version donnée.
+     */
+    public static String sessionKey(Long userId, int tokenVersion) {
+        return "user:" + userId + ":" + tokenVersion;
+    }
+    
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloom.mightContain(tokenId)) {
+            notRevoked.increment();
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+    
+    /**
+     * Effet immédiat sur cette instance, au prochain {@link #refresh()} sur les autres.
+     * Idempotente : un jeton déjà révoqué, ici ou par une requête concurrente, n'est pas réinséré.
+     */
+    public void revoke(String tokenId, LocalDateTime expiresAt) {
+        revokedTokenRepository.insertIfAbsent(tokenId, expiresAt, LocalDateTime.now());
+        writeLock.lock();
+        try {
+            add(tokenId, expiresAt);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    @PostConstruct
+    public void load() {
+        lastPoll = null;
+        refresh();
+    }
+    
+    /**
+     * Relit les révocations récentes. Le recouvrement ({@code poll-overlap}) couvre les transactions validées
+     * après la lecture précédente et les écarts d'horloge entre instances ; relire une entrée est sans effet.
+     */
+    public void refresh() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastPoll != null ? lastPoll.minus(pollOverlap) : EPOCH;
+        // Lu sur le primaire : une révocation absente d'un réplica en retard serait manquée au-delà du recouvrement
+        List<RevokedToken> rows = ReplicaRoutingDataSource.readFromPrimary(
+            () -> revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, now)
+        );
+        writeLock.lock();
+        try {
+            rows.forEach(row -> add(row.getTokenId(), row.getExpiresAt()));
+            lastPoll = now;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public void purge() {
+        revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        long now = System.currentTimeMillis();
+        writeLock.lock();
+        try {
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            rebuild();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    public int size() {
+        return revoked.size();
+    }
+    
+    /**
+     * Taux théorique du filtre courant, d'après son remplissage.
+     */
+    public double expectedFalsePositiveRate() {
+        return bloom.expectedFpp();
+    }
+    
+    /**
+     * Part des jetons non révoqués que le filtre a signalés à tort, depuis le démarrage.
+     */
+    public double observedFalsePositiveRate() {
+        double negatives = notRevoked.count() + falsePositives.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+    
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+    
+    /**
+     * Un échec (base indisponible) est compté puis retenté au tour suivant : une exception qui remonterait
+     * au {@link ScheduledExecutorService} annulerait toutes les exécutions suivantes.
+     */
+    private void schedule(Runnable task, Duration interval, Counter failures) {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                failures.increment();
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+    
+    private void add(String tokenId, LocalDateTime expiresAt) {
+        long expiresAtMillis = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (revoked.put(tokenId, expiresAtMillis) == null) {
+            bloom.put(tokenId);
+            if (revoked.size() > bloom.capacity()) {
+                rebuild();
+            }
+        }
+    }
+    
+    private void rebuild() {
+        BloomFilter next = new BloomFilter(Math.max(capacity, 2L * revoked.size()), fpp);
+        revoked.keySet().forEach(next::put);
+        bloom = next;
+    }
+    
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("taskflow.revocation.lookups")
+            .description("Vérifications de révocation des jetons d'accès")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+    
+    private static Counter failures(MeterRegistry meterRegistry, String operation) {
+        return Counter.builder("taskflow.revocation.failures")
+            .description("Relectures ou purges de la table revoked_tokens en échec")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+}
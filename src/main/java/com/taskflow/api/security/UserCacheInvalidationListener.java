@@ -0,0 +1,28 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.entity.User;
+import com.taskflow.api.service.TaskResponseCache;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+public class UserCacheInvalidationListener {
+    
+    private final ObjectProvider<UserDetailsCache> userDetailsCache;
+    private final ObjectProvider<TaskResponseCache> taskResponseCache;
+    
+    public UserCacheInvalidationListener(
+        ObjectProvider<UserDetailsCache> userDetailsCache,
+        ObjectProvider<TaskResponseCache> taskResponseCache
+    ) {
+        this.userDetailsCache = userDetailsCache;
+        this.taskResponseCache = taskResponseCache;
+    }
+    
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        userDetailsCache.ifAvailable(cache -> cache.evictAfterCommit(user.getId(), user.getEmail()));
+        taskResponseCache.ifAvailable(cache -> cache.evictUserAfterCommit(user.getId()));
+    }
+}
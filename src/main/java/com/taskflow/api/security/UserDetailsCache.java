@@ -0,0 +1,108 @@
+package com.taskflow.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Principaux chargés par {@link CustomUserDetailsService}, indexés par email.
+ * Chaque lecture renvoie une copie : Spring Security efface le mot de passe du principal après authentification.
+ */
+@Component
+public class UserDetailsCache {
+    
+    private final Cache<String, CachedPrincipal> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final LongAdder databaseLookups = new LongAdder();
+    
+    public UserDetailsCache(
+        @Value("${taskflow.security.user-cache.max-size:10000}") long maxSize,
+        @Value("${taskflow.security.user-cache.ttl:300s}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+    
+    /**
+     * Le chargement s'exécute hors du verrou de la map : une requête JDBC sous {@code synchronized}
+     * épinglerait le thread porteur d'un thread virtuel. Un chargement concurrent d'une invalidation
+     * n'est pas conservé.
+     */
+    public UserDetails get(String email, Function<String, CachedPrincipal> loader) {
+        CachedPrincipal principal = cache.getIfPresent(email);
+        if (principal == null) {
+            long generation = invalidations.get();
+            principal = loader.apply(email);
+            databaseLookups.increment();
+            cache.put(email, principal);
+            if (generation != invalidations.get()) {
+                cache.asMap().remove(email, principal);
+            }
+        }
+        return User.withUserDetails(principal.details()).build();
+    }
+    
+    public void evict(Long userId, String email) {
+        invalidations.incrementAndGet();
+        if (email != null) {
+            cache.invalidate(email);
+        }
+        if (userId != null) {
+            cache.asMap().values().removeIf(principal -> userId.equals(principal.userId()));
+        }
+    }
+    
+    public void evictAfterCommit(Long userId, String email) {
+        evict(userId, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId, email);
+                }
+            });
+        }
+    }
+    
+    public void evictAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+    
+    public Cache<String, CachedPrincipal> getCache() {
+        return cache;
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    public long savedLookups() {
+        return cache.stats().hitCount();
+    }
+    
+    public long databaseLookups() {
+        return databaseLookups.sum();
+    }
+    
+    public long invalidations() {
+        return invalidations.get();
+    }
+    
+    public record CachedPrincipal(Long userId, UserDetails details) {
+    }
+}
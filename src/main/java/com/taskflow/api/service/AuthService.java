@@ -2,16 +2,26 @@ package com.taskflow.api.service;
 
 import com.taskflow.api.dto.*;
 import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.RefreshTokenRepository;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.security.AuthenticatedUser;
 import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.PasswordHashingExecutor;
+import com.taskflow.api.security.TokenRevocationList;
+import com.taskflow.api.security.UserDetailsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -19,7 +29,13 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationList tokenRevocationList;
+    
+    private volatile String unknownUserPassword;
     
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -41,31 +57,117 @@ public class AuthService {
             .build();
         
         user = userRepository.save(user);
-        String token = jwtService.generateToken(user.getEmail());
+        return toAuthResponse(user);
+    }
+    
+    /**
+     * Une seule lecture de l'utilisateur. La vérification BCrypt, et le ré-encodage lorsque l'algorithme
+     * ou le coût configuré a changé, s'exécutent sur {@link PasswordHashingExecutor}, pas sur le thread de la requête.
+     */
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
         
-        return AuthResponse.builder()
-            .token(token)
-            .type("Bearer")
-            .userId(user.getId())
-            .email(user.getEmail())
-            .username(user.getUsername())
-            .role(user.getRole().name())
-            .build();
+        return passwordHashingExecutor.submit(() -> {
+            // Un email inconnu coûte le même hachage : la durée de la réponse ne révèle pas les comptes existants
+            String encodedPassword = user != null ? user.getPassword() : unknownUserPassword();
+            boolean matches = passwordEncoder.matches(request.getPassword(), encodedPassword);
+            if (user == null || !matches) {
+                throw new BadCredentialsException("Email ou mot de passe incorrect");
+            }
+            if (!user.getEnabled()) {
+                throw new DisabledException("Compte désactivé");
+            }
+            if (passwordEncoder.upgradeEncoding(encodedPassword)) {
+                upgradePassword(user, request.getPassword());
+            }
+            return toAuthResponse(user);
+        });
+    }
+    
+    /**
+     * Échange un jeton de rafraîchissement contre un nouveau couple de jetons ; l'ancien n'est plus utilisable.
+     */
+    public AuthResponse refresh(RefreshRequest request) {
+        return toAuthResponse(refreshTokenService.consume(request.getRefreshToken()));
     }
     
-    public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
+    /**
+     * Révoque le jeton de rafraîchissement fourni et, si la requête porte un jeton d'accès, ce dernier
+     * jusqu'à son expiration.
+     */
+    public void logout(RefreshRequest request, String authorization) {
+        String refreshToken = request != null ? request.getRefreshToken() : null;
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+            ? authorization.substring(7) : null;
+        if ((refreshToken == null || refreshToken.isBlank()) && accessToken == null) {
+            throw new RuntimeException("Aucun jeton à révoquer");
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        if (accessToken != null) {
+            revokeAccessToken(accessToken);
+        }
+    }
+    
+    /**
+     * Déconnecte un utilisateur de toutes ses sessions : jetons de rafraîchissement supprimés, jetons d'accès
+     * émis sous la version remplacée révoqués jusqu'à la fin de leur durée de vie.
+     * <p>
+     * La version est relue en base après l'incrément, ligne verrouillée : celle du cache de second niveau peut être
+     * périmée sur cette instance, et deux révocations concurrentes révoquent chacune la version qu'elles remplacent.
+     */
+    @Transactional
+    public void revokeSessions(Long userId) {
+        if (userRepository.incrementTokenVersion(userId) == 0) {
+            throw new RuntimeException("Utilisateur introuvable");
+        }
+        int supersededVersion = userRepository.findTokenVersionById(userId).orElseThrow() - 1;
+        refreshTokenRepository.revokeAllByUserId(userId);
+        tokenRevocationList.revoke(
+            TokenRevocationList.sessionKey(userId, supersededVersion),
+            LocalDateTime.now().plusNanos(jwtService.getExpirationMillis() * 1_000_000)
         );
-        
-        User user = userRepository.findByEmail(request.getEmail())
-            .orElseThrow(() -> new RuntimeException("Utilisateur introuvable"));
-        
-        String token = jwtService.generateToken(user.getEmail());
+    }
+    
+    private void revokeAccessToken(String accessToken) {
+        Claims claims;
+        try {
+            claims = jwtService.extractAllClaims(accessToken);
+        } catch (JwtException e) {
+            // Expiré ou invalide : déjà refusé par le filtre
+            return;
+        }
+        if (claims.getId() != null) {
+            tokenRevocationList.revoke(
+                claims.getId(),
+                LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault())
+            );
+        }
+    }
+    
+    private void upgradePassword(User user, String rawPassword) {
+        String upgraded = passwordEncoder.encode(rawPassword);
+        if (userRepository.updatePassword(user.getId(), user.getPassword(), upgraded) == 1) {
+            userDetailsCache.evict(user.getId(), user.getEmail());
+        }
+    }
+    
+    private String unknownUserPassword() {
+        if (unknownUserPassword == null) {
+            unknownUserPassword = passwordEncoder.encode("unknown-user-password");
+        }
+        return unknownUserPassword;
+    }
+    
+    private AuthResponse toAuthResponse(User user) {
+        String token = jwtService.generateToken(AuthenticatedUser.of(user));
         
         return AuthResponse.builder()
             .token(token)
             .type("Bearer")
+            .expiresIn(jwtService.getExpirationMillis() / 1000)
+            .refreshToken(refreshTokenService.issue(user))
             .userId(user.getId())
             .email(user.getEmail())
             .username(user.getUsername())
@@ -0,0 +1,102 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.entity.RefreshToken;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Jetons de rafraîchissement opaques, à usage unique. Le rafraîchissement relit l'utilisateur : un compte désactivé
+ * ou dont {@code token_version} a été incrémentée n'obtient plus de jeton d'accès, et les jetons déjà émis
+ * expirent dans la durée de vie d'un jeton d'accès ({@code jwt.expiration}).
+ */
+@Service
+public class RefreshTokenService {
+    
+    private static final int TOKEN_BYTES = 32;
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final SecureRandom random = new SecureRandom();
+    
+    public RefreshTokenService(
+        RefreshTokenRepository refreshTokenRepository,
+        UserRepository userRepository,
+        @Value("${jwt.refresh-expiration:30d}") Duration ttl
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+    }
+    
+    /**
+     * @return le jeton à remettre au client ; seule son empreinte est enregistrée
+     */
+    public String issue(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        refreshTokenRepository.save(RefreshToken.builder()
+            .userId(user.getId())
+            .tokenHash(hash(token))
+            .tokenVersion(user.getTokenVersion())
+            .expiresAt(LocalDateTime.now().plus(ttl))
+            .build());
+        return token;
+    }
+    
+    /**
+     * Supprime le jeton (rotation) et renvoie son utilisateur. La suppression précède les contrôles :
+     * deux requêtes concurrentes avec le même jeton ne peuvent pas toutes deux réussir.
+     */
+    public User consume(String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+            .orElseThrow(() -> new BadCredentialsException("Jeton de rafraîchissement invalide"));
+        if (refreshTokenRepository.revoke(refreshToken.getId()) == 0) {
+            throw new BadCredentialsException("Jeton de rafraîchissement invalide");
+        }
+        if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BadCredentialsException("Jeton de rafraîchissement expiré");
+        }
+        
+        User user = userRepository.findUncachedById(refreshToken.getUserId())
+            .orElseThrow(() -> new BadCredentialsException("Jeton de rafraîchissement invalide"));
+        if (!user.getEnabled() || !user.getTokenVersion().equals(refreshToken.getTokenVersion())) {
+            throw new BadCredentialsException("Jeton de rafraîchissement révoqué");
+        }
+        return user;
+    }
+    
+    public void revoke(String token) {
+        refreshTokenRepository.revokeByTokenHash(hash(token));
+    }
+    
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 0 4 * * *}")
+    public int purgeExpired() {
+        return refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+    
+    private static String hash(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.BatchItemResult;
+import com.taskflow.api.dto.BatchResponse;
+import com.taskflow.api.dto.TaskBatchUpdateItem;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.dto.TaskRequest;
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskCounterDelta;
+import com.taskflow.api.repository.TaskCounterRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Opérations par lot : chaque tâche créée, modifiée ou supprimée publie son événement, comme l'API unitaire
+ * (flux SSE après le commit, outbox des webhooks dans la transaction).
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBatchService {
+    
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskCounterRepository taskCounterRepository;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${taskflow.batch.max-size:1000}")
+    private int maxBatchSize;
+    
+    @Transactional
+    public BatchResponse createTasks(List<TaskRequest> requests, String creatorEmail) {
+        checkBatchSize(requests.size());
+        User creator = userRepository.findByEmail(creatorEmail)
+            .orElseThrow(() -> new RuntimeException("Créateur introuvable"));
+        Map<Long, User> users = loadUsers(requests);
+        
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        
+        for (int i = 0; i < requests.size(); i++) {
+            TaskRequest request = requests.get(i);
+            String error = validate(request, users);
+            if (error != null) {
+                results[i] = failed(i, null, error);
+                continue;
+            }
+            tasks.add(Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(TaskService.parseStatus(request.getStatus()))
+                .priority(TaskService.parsePriority(request.getPriority()))
+                .dueDate(request.getDueDate())
+                .creator(creator)
+                .assignedUsers(resolveUsers(request.getAssignedUserIds(), users))
+                .build());
+            indexes.add(i);
+        }
+        
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+        TaskCounterDelta counters = new TaskCounterDelta();
+        tasks.forEach(counters::add);
+        taskCounterRepository.apply(counters);
+        
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            int index = indexes.get(i);
+            results[index] = succeeded(index, task.getId(), BatchItemResult.Status.CREATED);
+            publish(TaskEvent.Type.CREATED, task, Set.of(), taskMapper.toResponse(task));
+        }
+        return BatchResponse.of(Arrays.asList(results));
+    }
+    
+    @Transactional
+    public BatchResponse updateTasks(List<TaskBatchUpdateItem> items) {
+        checkBatchSize(items.size());
+        List<TaskRequest> requests = items.stream()
+            .map(TaskBatchUpdateItem::getTask)
+            .filter(Objects::nonNull)
+            .toList();
+        Map<Long, User> users = loadUsers(requests);
+        Set<Long> taskIds = ids(items, TaskBatchUpdateItem::getId);
+        Map<Long, Task> tasks = taskIds.isEmpty() ? Map.of() : taskRepository.findAllWithAssignedUsers(taskIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        
+        List<BatchItemResult> results = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>();
+        Map<Long, Set<Long>> previousAssignees = new LinkedHashMap<>();
+        TaskCounterDelta counters = new TaskCounterDelta();
+        
+        for (int i = 0; i < items.size(); i++) {
+            TaskBatchUpdateItem item = items.get(i);
+            String error = validateItem(item);
+            if (error == null) {
+                error = validate(item.getTask(), users);
+            }
+            if (error == null && !seen.add(item.getId())) {
+                error = "Tâche présente plusieurs fois dans le lot";
+            }
+            Task task = error == null ? tasks.get(item.getId()) : null;
+            if (error == null && task == null) {
+                error = "Tâche introuvable";
+            }
+            if (error != null) {
+                results.add(failed(i, item != null ? item.getId() : null, error));
+                continue;
+            }
+            
+            TaskRequest request = item.getTask();
+            Set<Long> previousAssigneeIds = TaskService.assigneeIds(task);
+            counters.remove(task);
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setStatus(TaskService.parseStatus(request.getStatus()));
+            task.setPriority(TaskService.parsePriority(request.getPriority()));
+            task.setDueDate(request.getDueDate());
+            if (request.getAssignedUserIds() != null) {
+                task.setAssignedUsers(resolveUsers(request.getAssignedUserIds(), users));
+                TaskService.touchIfReassigned(task, previousAssigneeIds);
+            }
+            counters.add(task);
+            previousAssignees.put(task.getId(), previousAssigneeIds);
+            results.add(succeeded(i, task.getId(), BatchItemResult.Status.UPDATED));
+        }
+        
+        taskRepository.flush();
+        taskCounterRepository.apply(counters);
+        taskResponseCache.evictAllAfterCommit(seen);
+        previousAssignees.forEach((id, previousAssigneeIds) -> {
+            Task task = tasks.get(id);
+            publish(TaskEvent.Type.UPDATED, task, previousAssigneeIds, taskMapper.toResponse(task));
+        });
+        return BatchResponse.of(results);
+    }
+    
+    @Transactional
+    public BatchResponse deleteTasks(List<Long> ids) {
+        checkBatchSize(ids.size());
+        Set<Long> requestedIds = ids(ids, Function.identity());
+        // Créateur et assignés sont lus avant la suppression : l'événement en a besoin pour filtrer les abonnés
+        Map<Long, Task> existing = requestedIds.isEmpty() ? Map.of() : taskRepository
+            .findAllWithAssignedUsers(requestedIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        Set<Long> toDelete = new HashSet<>();
+        
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null || !existing.containsKey(id)) {
+                results.add(failed(i, id, "Tâche introuvable"));
+            } else if (!toDelete.add(id)) {
+                results.add(failed(i, id, "Tâche présente plusieurs fois dans le lot"));
+            } else {
+                results.add(succeeded(i, id, BatchItemResult.Status.DELETED));
+            }
+        }
+        
+        if (!toDelete.isEmpty()) {
+            taskCounterRepository.apply(taskCounterRepository.countTasks(toDelete).negate());
+            taskRepository.deleteAllByIdInBatch(toDelete);
+            taskResponseCache.evictAllAfterCommit(toDelete);
+            toDelete.forEach(id -> publish(TaskEvent.Type.DELETED, existing.get(id), Set.of(), null));
+        }
+        return BatchResponse.of(results);
+    }
+    
+    private void publish(TaskEvent.Type type, Task task, Set<Long> previousAssigneeIds, TaskResponse response) {
+        eventPublisher.publishEvent(TaskService.event(type, task, previousAssigneeIds, null, response));
+    }
+    
+    private void checkBatchSize(int size) {
+        if (size == 0) {
+            throw new RuntimeException("Le lot est vide");
+        }
+        if (size > maxBatchSize) {
+            throw new RuntimeException("Le lot ne doit pas dépasser " + maxBatchSize + " éléments");
+        }
+    }
+    
+    private Map<Long, User> loadUsers(Collection<TaskRequest> requests) {
+        Set<Long> userIds = requests.stream()
+            .map(TaskRequest::getAssignedUserIds)
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+    
+    private Set<User> resolveUsers(Set<Long> userIds, Map<Long, User> users) {
+        if (userIds == null) {
+            return new HashSet<>();
+        }
+        return userIds.stream()
+            .map(users::get)
+            .collect(Collectors.toCollection(HashSet::new));
+    }
+    
+    private String validateItem(TaskBatchUpdateItem item) {
+        if (item == null) {
+            return "Le contenu de la tâche est requis";
+        }
+        if (item.getId() == null) {
+            return "L'identifiant de la tâche est requis";
+        }
+        if (item.getTask() == null) {
+            return "Le contenu de la tâche est requis";
+        }
+        return null;
+    }
+    
+    private String validate(TaskRequest request, Map<Long, User> users) {
+        if (request == null) {
+            return "Le contenu de la tâche est requis";
+        }
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+        try {
+            TaskService.parseStatus(request.getStatus());
+            TaskService.parsePriority(request.getPriority());
+        } catch (IllegalArgumentException e) {
+            return "Statut ou priorité invalide";
+        }
+        if (request.getAssignedUserIds() != null) {
+            List<Long> missing = request.getAssignedUserIds().stream()
+                .filter(id -> id == null || !users.containsKey(id))
+                .toList();
+            if (!missing.isEmpty()) {
+                return "Utilisateurs introuvables : " + missing;
+            }
+        }
+        return null;
+    }
+    
+    private static <T> Set<Long> ids(Collection<T> items, Function<T, Long> idExtractor) {
+        return items.stream()
+            .filter(Objects::nonNull)
+            .map(idExtractor)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+    
+    private static BatchItemResult succeeded(int index, Long id, BatchItemResult.Status status) {
+        return BatchItemResult.builder()
+            .index(index)
+            .id(id)
+            .status(status)
+            .build();
+    }
+    
+    private static BatchItemResult failed(int index, Long id, String error) {
+        return BatchItemResult.builder()
+            .index(index)
+            .id(id)
+            .status(BatchItemResult.Status.FAILED)
+            .error(error)
+            .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.repository.projection.TaskRow;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * Position opaque dans une liste triée par (clé de tri, id), transmise au client sous forme de jeton base64url.
+ */
+public record TaskCursor(String sortBy, Sort.Direction direction, LocalDateTime value, Long id) {
+    
+    public static final Set<String> SORT_PROPERTIES = Set.of("createdAt", "updatedAt");
+    
+    private static final String SEPARATOR = "|";
+    
+    public static TaskCursor of(TaskRow task, String sortBy, Sort.Direction direction) {
+        LocalDateTime value = "updatedAt".equals(sortBy) ? task.updatedAt() : task.createdAt();
+        return new TaskCursor(sortBy, direction, value, task.id());
+    }
+    
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortBy, direction.name(), value.toString(), id.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 4 || !SORT_PROPERTIES.contains(parts[0])) {
+                throw new IllegalArgumentException(raw);
+            }
+            return new TaskCursor(
+                parts[0],
+                Sort.Direction.valueOf(parts[1]),
+                LocalDateTime.parse(parts[2]),
+                Long.valueOf(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Curseur invalide");
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.ServiceUnavailableException;
+import com.taskflow.api.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Diffuse les événements de tâches aux abonnés de GET /api/tasks/stream, une fois la transaction validée.
+ * Un abonné inactif n'occupe aucun thread : la requête reste en mode asynchrone et les écritures sont faites
+ * par des threads virtuels, une à la fois par abonné, depuis une file bornée. Un abonné dont la file déborde
+ * est trop lent : sa connexion est fermée et le client doit se resynchroniser en se reconnectant.
+ */
+@Service
+public class TaskEventBroadcaster implements DisposableBean {
+    
+    private static final Frame HEARTBEAT = new Frame(null, null, null);
+    
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats =
+        Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("task-stream-heartbeat").factory());
+    private final Counter published;
+    private final Counter dropped;
+    
+    public TaskEventBroadcaster(
+        UserRepository userRepository,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        @Value("${taskflow.stream.buffer-size:256}") int bufferSize,
+        @Value("${taskflow.stream.max-subscribers:50000}") int maxSubscribers,
+        @Value("${taskflow.stream.timeout:30m}") Duration timeout,
+        @Value("${taskflow.stream.heartbeat:30s}") Duration heartbeat
+    ) {
+        this.userRepository = userRepository;
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.published = meterRegistry.counter("taskflow.stream.events");
+        this.dropped = meterRegistry.counter("taskflow.stream.dropped");
+        heartbeats.scheduleAtFixedRate(
+            () -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)),
+            heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS
+        );
+    }
+    
+    /**
+     * @param assignedToMe ne recevoir que les tâches dont l'utilisateur est (ou était) assigné
+     * @param creatorId    ne recevoir que les tâches de ce créateur, ou {@code null}
+     */
+    public SseEmitter subscribe(String email, boolean assignedToMe, Long creatorId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceUnavailableException("Nombre maximal d'abonnés au flux atteint sur cette instance");
+        }
+        Long assigneeId = null;
+        if (assignedToMe) {
+            assigneeId = userRepository.findByEmail(email)
+                .map(User::getId)
+                .orElseThrow(() -> new RuntimeException("Utilisateur introuvable"));
+        }
+        
+        SseEmitter emitter = newEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, assigneeId, creatorId);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        // Envoie les en-têtes tout de suite : le client sait qu'il est abonné avant le premier événement
+        subscriber.offer(HEARTBEAT);
+        return emitter;
+    }
+    
+    /**
+     * Appelé après le commit (ou immédiatement hors transaction) ; ne bloque jamais sur un abonné.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TaskEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Frame frame;
+        try {
+            frame = new Frame(
+                Long.toString(sequence.incrementAndGet()),
+                event.getType().name().toLowerCase(),
+                objectMapper.writeValueAsString(event)
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sérialisation de l'événement impossible", e);
+        }
+        published.increment();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.offer(frame);
+            }
+        }
+    }
+    
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+    
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+    
+    @Override
+    public void destroy() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdown();
+    }
+    
+    /**
+     * Événement prêt à l'envoi, sérialisé une seule fois pour tous les abonnés ; sans nom, c'est un commentaire
+     * de maintien de connexion.
+     */
+    private record Frame(String id, String name, String data) {
+        
+        private SseEmitter.SseEventBuilder toEvent() {
+            if (name == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().id(id).name(name).data(data);
+        }
+    }
+    
+    private final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private final Long assigneeId;
+        private final Long creatorId;
+        private final BlockingQueue<Frame> queue = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        
+        private Subscriber(SseEmitter emitter, Long assigneeId, Long creatorId) {
+            this.emitter = emitter;
+            this.assigneeId = assigneeId;
+            this.creatorId = creatorId;
+        }
+        
+        private boolean matches(TaskEvent event) {
+            if (event.getType() == TaskEvent.Type.IMPORTED) {
+                return true;
+            }
+            if (creatorId != null && !creatorId.equals(event.getCreatorId())) {
+                return false;
+            }
+            return assigneeId == null || event.getAssigneeIds() != null && event.getAssigneeIds().contains(assigneeId);
+        }
+        
+        private void offer(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(frame)) {
+                drop();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+        
+        /**
+         * Un seul thread vide la file à la fois ; une trame ajoutée pendant la fin du vidage relance la boucle.
+         */
+        private void drain() {
+            do {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    try {
+                        emitter.send(frame.toEvent());
+                    } catch (IOException | IllegalStateException e) {
+                        // Connexion fermée côté client : le conteneur signale l'erreur à l'emitter
+                        closed = true;
+                        subscribers.remove(this);
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+        
+        /**
+         * La fermeture peut attendre la fin d'une écriture bloquée : elle est faite hors du thread de publication.
+         */
+        private void drop() {
+            closed = true;
+            if (subscribers.remove(this)) {
+                dropped.increment();
+                senders.execute(emitter::complete);
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.UserResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+    
+    private static final String CSV_HEADER =
+        "id,title,description,status,priority,dueDate,creatorId,creatorEmail,assignedUserIds,createdAt,updatedAt";
+    
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Value("${taskflow.export.chunk-size:1000}")
+    private int chunkSize;
+    
+    public enum Format {
+        NDJSON, CSV
+    }
+    
+    @Transactional(readOnly = true)
+    public void exportTasks(TaskFilter filter, Format format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        
+        try (Stream<Task> tasks = taskRepository.streamByFilter(filter, chunkSize)) {
+            Iterator<Task> iterator = tasks.iterator();
+            List<Task> chunk = new ArrayList<>(chunkSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == chunkSize || !iterator.hasNext()) {
+                    writeChunk(chunk, format, writer);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        writer.flush();
+    }
+    
+    private void writeChunk(List<Task> chunk, Format format, Writer writer) throws IOException {
+        Map<Long, List<User>> assignedUsers = taskRepository.findAssignedUsersByTaskIds(
+            chunk.stream().map(Task::getId).toList()
+        );
+        for (Task task : chunk) {
+            TaskResponse response = taskMapper.toResponse(task, assignedUsers.getOrDefault(task.getId(), List.of()));
+            if (format == Format.CSV) {
+                writeCsvRow(response, writer);
+            } else {
+                writer.write(objectMapper.writeValueAsString(response));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+    
+    private void writeCsvRow(TaskResponse task, Writer writer) throws IOException {
+        String assignedUserIds = task.getAssignedUsers().stream()
+            .map(UserResponse::getId)
+            .sorted(Comparator.naturalOrder())
+            .map(String::valueOf)
+            .collect(Collectors.joining(";"));
+        
+        writer.write(String.join(",",
+            String.valueOf(task.getId()),
+            csv(task.getTitle()),
+            csv(task.getDescription()),
+            task.getStatus(),
+            task.getPriority(),
+            csv(task.getDueDate()),
+            String.valueOf(task.getCreator().getId()),
+            csv(task.getCreator().getEmail()),
+            assignedUserIds,
+            csv(task.getCreatedAt()),
+            csv(task.getUpdatedAt())
+        ));
+        writer.write('\n');
+    }
+    
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,196 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskImportRow;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Lit un fichier d'import ligne à ligne, sans jamais le charger entièrement en mémoire.
+ * Une ligne illisible produit une entrée en erreur plutôt que d'interrompre la lecture.
+ */
+class TaskImportReader implements Iterator<TaskImportReader.Entry>, Closeable {
+    
+    static final Set<String> CSV_COLUMNS = Set.of(
+        "title", "description", "status", "priority", "dueDate", "creatorEmail", "assigneeEmails"
+    );
+    
+    record Entry(int index, TaskImportRow row, String error) {
+    }
+    
+    private final BufferedReader reader;
+    private final TaskExportService.Format format;
+    private final ObjectMapper objectMapper;
+    private final String[] header;
+    private int index;
+    private Entry next;
+    
+    TaskImportReader(InputStream inputStream, TaskExportService.Format format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.header = format == TaskExportService.Format.CSV ? readHeader() : null;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readEntry();
+        }
+        return next != null;
+    }
+    
+    @Override
+    public Entry next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Entry entry = next;
+        next = null;
+        return entry;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+    
+    private String[] readHeader() {
+        List<String> columns = readCsvRecord();
+        if (columns == null) {
+            throw new RuntimeException("Le fichier est vide");
+        }
+        for (String column : columns) {
+            if (!CSV_COLUMNS.contains(column)) {
+                throw new RuntimeException("Colonne inconnue : " + column);
+            }
+        }
+        return columns.toArray(String[]::new);
+    }
+    
+    private Entry readEntry() {
+        if (format == TaskExportService.Format.CSV) {
+            List<String> values = readCsvRecord();
+            return values == null ? null : toEntry(values);
+        }
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        
+        int rowIndex = index++;
+        try {
+            return new Entry(rowIndex, objectMapper.readValue(line, TaskImportRow.class), null);
+        } catch (JsonProcessingException e) {
+            return new Entry(rowIndex, null, "Ligne JSON invalide");
+        }
+    }
+    
+    private Entry toEntry(List<String> values) {
+        int rowIndex = index++;
+        if (values.size() != header.length) {
+            return new Entry(rowIndex, null, "Nombre de colonnes invalide");
+        }
+        TaskImportRow row = new TaskImportRow();
+        for (int i = 0; i < header.length; i++) {
+            String value = values.get(i).isEmpty() ? null : values.get(i);
+            switch (header[i]) {
+                case "title" -> row.setTitle(value);
+                case "description" -> row.setDescription(value);
+                case "status" -> row.setStatus(value);
+                case "priority" -> row.setPriority(value);
+                case "creatorEmail" -> row.setCreatorEmail(value);
+                case "assigneeEmails" -> row.setAssigneeEmails(value == null ? null : Arrays.stream(value.split(";"))
+                    .map(String::trim)
+                    .filter(email -> !email.isEmpty())
+                    .toList());
+                case "dueDate" -> {
+                    try {
+                        row.setDueDate(value == null ? null : LocalDateTime.parse(value));
+                    } catch (DateTimeParseException e) {
+                        return new Entry(rowIndex, null, "Date d'échéance invalide");
+                    }
+                }
+                default -> throw new IllegalStateException(header[i]);
+            }
+        }
+        return new Entry(rowIndex, row, null);
+    }
+    
+    /**
+     * Lit un enregistrement CSV (RFC 4180) : les champs entre guillemets peuvent contenir
+     * des virgules, des guillemets doublés et des retours à la ligne.
+     */
+    private List<String> readCsvRecord() {
+        try {
+            int c = reader.read();
+            while (c == '\r' || c == '\n') {
+                c = reader.read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new RuntimeException("Guillemet non fermé à la ligne " + (index + 1));
+                    }
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == '\r' || c == -1) {
+                    values.add(field.toString());
+                    return values;
+                } else {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.BatchItemResult;
+import com.taskflow.api.dto.ImportReport;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.dto.TaskImportRow;
+import com.taskflow.api.dto.TaskRequest;
+import com.taskflow.api.repository.TaskCopyWriter;
+import com.taskflow.api.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Import massif de tâches : le fichier est lu en flux et écrit par lots avec COPY.
+ * Chaque lot est validé en bloc puis écrit dans sa propre transaction ; un lot en échec
+ * n'annule pas les lots déjà importés. Chaque lot validé est signalé aux abonnés du flux
+ * par un seul événement {@link TaskEvent.Type#IMPORTED}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskImportService {
+    
+    private final TaskCopyWriter taskCopyWriter;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    
+    @Value("${taskflow.import.chunk-size:5000}")
+    private int chunkSize;
+    
+    @Value("${taskflow.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+    
+    public ImportReport importTasks(InputStream inputStream, TaskExportService.Format format) throws IOException {
+        long start = System.nanoTime();
+        Report report = new Report(maxReportedErrors);
+        Map<String, Long> userIds = new HashMap<>();
+        
+        try (TaskImportReader reader = new TaskImportReader(inputStream, format, objectMapper)) {
+            List<TaskImportReader.Entry> chunk = new ArrayList<>(chunkSize);
+            while (reader.hasNext()) {
+                chunk.add(reader.next());
+                if (chunk.size() == chunkSize || !reader.hasNext()) {
+                    importChunk(chunk, userIds, report);
+                    chunk.clear();
+                }
+            }
+        }
+        
+        long durationNanos = System.nanoTime() - start;
+        double seconds = durationNanos / 1_000_000_000.0;
+        return ImportReport.builder()
+            .totalRows(report.total)
+            .imported(report.imported)
+            .failed(report.failed)
+            .durationMillis(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+            .rowsPerSecond(seconds > 0 ? report.imported / seconds : 0)
+            .errors(report.errors)
+            .errorsTruncated(report.failed > report.errors.size())
+            .build();
+    }
+    
+    private void importChunk(List<TaskImportReader.Entry> chunk, Map<String, Long> userIds, Report report) {
+        resolveEmails(chunk, userIds);
+        
+        List<TaskCopyWriter.Row> rows = new ArrayList<>(chunk.size());
+        List<Integer> indexes = new ArrayList<>(chunk.size());
+        for (TaskImportReader.Entry entry : chunk) {
+            report.total++;
+            String error = entry.error() != null ? entry.error() : validate(entry.row(), userIds);
+            if (error != null) {
+                report.fail(entry.index(), error);
+                continue;
+            }
+            TaskImportRow row = entry.row();
+            rows.add(new TaskCopyWriter.Row(
+                row.getTitle(),
+                row.getDescription(),
+                TaskService.parseStatus(row.getStatus()),
+                TaskService.parsePriority(row.getPriority()),
+                row.getDueDate(),
+                userIds.get(row.getCreatorEmail()),
+                assigneeEmails(row).stream().map(userIds::get).collect(Collectors.toSet())
+            ));
+            indexes.add(entry.index());
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        
+        try {
+            taskCopyWriter.write(rows);
+            report.imported += rows.size();
+        } catch (SQLException e) {
+            indexes.forEach(index -> report.fail(index, "Échec de l'écriture du lot : " + e.getMessage()));
+            return;
+        }
+        // Le lot est validé par sa propre transaction JDBC : l'événement part directement, hors transaction Spring
+        taskEventBroadcaster.publish(TaskEvent.builder()
+            .type(TaskEvent.Type.IMPORTED)
+            .count(rows.size())
+            .build());
+    }
+    
+    /**
+     * Résout en une requête les e-mails du lot qui ne l'ont pas déjà été ;
+     * les e-mails inconnus sont mémorisés avec une valeur nulle.
+     */
+    private void resolveEmails(List<TaskImportReader.Entry> chunk, Map<String, Long> userIds) {
+        Set<String> emails = chunk.stream()
+            .map(TaskImportReader.Entry::row)
+            .filter(Objects::nonNull)
+            .flatMap(row -> {
+                Set<String> rowEmails = new HashSet<>(assigneeEmails(row));
+                rowEmails.add(row.getCreatorEmail());
+                return rowEmails.stream();
+            })
+            .filter(email -> email != null && !userIds.containsKey(email))
+            .collect(Collectors.toSet());
+        if (emails.isEmpty()) {
+            return;
+        }
+        for (Object[] user : userRepository.findIdsByEmailIn(emails)) {
+            userIds.put((String) user[0], (Long) user[1]);
+        }
+        emails.forEach(email -> userIds.putIfAbsent(email, null));
+    }
+    
+    private String validate(TaskImportRow row, Map<String, Long> userIds) {
+        TaskRequest request = TaskRequest.builder()
+            .title(row.getTitle())
+            .description(row.getDescription())
+            .status(row.getStatus())
+            .priority(row.getPriority())
+            .dueDate(row.getDueDate())
+            .build();
+        Set<ConstraintViolation<TaskRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+        }
+        try {
+            TaskService.parseStatus(row.getStatus());
+            TaskService.parsePriority(row.getPriority());
+        } catch (IllegalArgumentException e) {
+            return "Statut ou priorité invalide";
+        }
+        if (row.getCreatorEmail() == null) {
+            return "L'e-mail du créateur est requis";
+        }
+        if (userIds.get(row.getCreatorEmail()) == null) {
+            return "Créateur introuvable : " + row.getCreatorEmail();
+        }
+        List<String> missing = assigneeEmails(row).stream()
+            .filter(email -> userIds.get(email) == null)
+            .toList();
+        if (!missing.isEmpty()) {
+            return "Utilisateurs introuvables : " + missing;
+        }
+        return null;
+    }
+    
+    private static Set<String> assigneeEmails(TaskImportRow row) {
+        if (row.getAssigneeEmails() == null) {
+            return Set.of();
+        }
+        return row.getAssigneeEmails().stream()
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+    
+    private static final class Report {
+        
+        private final int maxErrors;
+        private final List<BatchItemResult> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+        
+        private Report(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+        
+        private void fail(int index, String error) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(BatchItemResult.builder()
+                    .index(index)
+                    .status(BatchItemResult.Status.FAILED)
+                    .error(error)
+                    .build());
+            }
+        }
+    }
+}
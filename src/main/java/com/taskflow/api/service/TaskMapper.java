@@ -0,0 +1,80 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.UserResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.projection.TaskRow;
+import com.taskflow.api.repository.projection.TaskValidator;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+@Component
+public class TaskMapper {
+    
+    public TaskResponse toResponse(Task task) {
+        return toResponse(task, task.getAssignedUsers());
+    }
+    
+    public TaskResponse toResponse(Task task, Collection<User> assignedUsers) {
+        LocalDateTime usersUpdatedAt = assignedUsers.stream()
+            .map(User::getUpdatedAt)
+            .reduce(task.getCreator().getUpdatedAt(), TaskValidator::latest);
+        return TaskResponse.builder()
+            .id(task.getId())
+            .title(task.getTitle())
+            .description(task.getDescription())
+            .status(task.getStatus().name())
+            .priority(task.getPriority().name())
+            .dueDate(task.getDueDate())
+            .creator(toUserResponse(task.getCreator()))
+            .assignedUsers(assignedUsers.stream()
+                .map(this::toUserResponse)
+                .collect(Collectors.toSet()))
+            .createdAt(task.getCreatedAt())
+            .updatedAt(task.getUpdatedAt())
+            .version(task.getVersion())
+            .usersUpdatedAt(usersUpdatedAt)
+            .build();
+    }
+    
+    public TaskResponse toResponse(TaskRow task, UserResponse creator, Collection<UserResponse> assignedUsers) {
+        return TaskResponse.builder()
+            .id(task.id())
+            .title(task.title())
+            .description(task.description())
+            .status(task.status().name())
+            .priority(task.priority().name())
+            .dueDate(task.dueDate())
+            .creator(creator)
+            .assignedUsers(new HashSet<>(assignedUsers))
+            .createdAt(task.createdAt())
+            .updatedAt(task.updatedAt())
+            .version(task.version())
+            .build();
+    }
+    
+    public UserResponse toUserResponse(User user) {
+        return UserResponse.builder()
+            .id(user.getId())
+            .email(user.getEmail())
+            .username(user.getUsername())
+            .firstName(user.getFirstName())
+            .lastName(user.getLastName())
+            .role(user.getRole().name())
+            .enabled(user.getEnabled())
+            .createdAt(user.getCreatedAt())
+            .build();
+    }
+    
+    /**
+     * Utilisateur réduit à son identifiant, pour une réponse qui ne demande pas son détail.
+     */
+    public UserResponse toUserReference(Long id) {
+        return UserResponse.builder().id(id).build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Écrit chaque événement de tâche dans l'outbox au moment où il est publié, donc dans la transaction
+ * de la modification : l'événement est enregistré si et seulement si la modification l'est.
+ * La livraison aux webhooks est faite plus tard par {@link WebhookDispatcher}.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskOutboxListener {
+    
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    
+    @EventListener
+    public void onTaskEvent(TaskEvent event) {
+        try {
+            outboxRepository.enqueue(event.getTaskId(), event.getType().name(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Sérialisation de l'événement impossible", e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.taskflow.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.UserResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Réponses de {@code GET /api/tasks/{id}} déjà construites, indexées par identifiant de tâche.
+ * Les écritures invalident l'entrée immédiatement puis à nouveau après le commit, pour qu'une lecture
+ * concurrente ne remette pas en cache l'état d'avant la transaction.
+ */
+@Component
+public class TaskResponseCache {
+    
+    private final Cache<Long, TaskResponse> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public TaskResponseCache(
+        @Value("${taskflow.task-cache.max-size:10000}") long maxSize,
+        @Value("${taskflow.task-cache.ttl:60s}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    }
+    
+    /**
+     * Comme pour {@code UserDetailsCache}, le chargement s'exécute hors du verrou de la map
+     * et un résultat concurrent d'une invalidation n'est pas conservé.
+     */
+    public TaskResponse get(Long taskId, Function<Long, TaskResponse> loader) {
+        TaskResponse response = cache.getIfPresent(taskId);
+        if (response == null) {
+            long generation = invalidations.get();
+            response = loader.apply(taskId);
+            cache.put(taskId, response);
+            if (generation != invalidations.get()) {
+                cache.asMap().remove(taskId, response);
+            }
+        }
+        return response;
+    }
+    
+    public void evictAfterCommit(Long taskId) {
+        evict(taskId);
+        afterCommit(() -> evict(taskId));
+    }
+    
+    public void evictAllAfterCommit(Collection<Long> taskIds) {
+        evictAll(taskIds);
+        afterCommit(() -> evictAll(taskIds));
+    }
+    
+    /**
+     * Retire les réponses qui embarquent l'utilisateur, comme créateur ou comme assigné.
+     */
+    public void evictUserAfterCommit(Long userId) {
+        evictUser(userId);
+        afterCommit(() -> evictUser(userId));
+    }
+    
+    public Cache<Long, TaskResponse> getCache() {
+        return cache;
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    private void evict(Long taskId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(taskId);
+    }
+    
+    private void evictAll(Collection<Long> taskIds) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(taskIds);
+    }
+    
+    private void evictUser(Long userId) {
+        invalidations.incrementAndGet();
+        cache.asMap().values().removeIf(response -> embeds(response, userId));
+    }
+    
+    private static boolean embeds(TaskResponse response, Long userId) {
+        if (response.getCreator() != null && userId.equals(response.getCreator().getId())) {
+            return true;
+        }
+        return response.getAssignedUsers() != null && response.getAssignedUsers().stream()
+            .map(UserResponse::getId)
+            .anyMatch(userId::equals);
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    action.run();
+                }
+            });
+        }
+    }
+}
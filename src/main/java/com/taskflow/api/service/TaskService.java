@@ -1,28 +1,59 @@
 package com.taskflow.api.service;
 
+import com.taskflow.api.config.ReplicaRoutingDataSource;
+import com.taskflow.api.dto.CursorPage;
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.dto.TaskEvent;
 import com.taskflow.api.dto.TaskRequest;
 import com.taskflow.api.dto.TaskResponse;
 import com.taskflow.api.dto.UserResponse;
 import com.taskflow.api.entity.Task;
 import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.PreconditionFailedException;
+import com.taskflow.api.repository.TaskCounterDelta;
+import com.taskflow.api.repository.TaskCounterRepository;
 import com.taskflow.api.repository.TaskRepository;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.projection.AssigneeRow;
+import com.taskflow.api.repository.projection.TaskRow;
+import com.taskflow.api.repository.projection.TaskValidator;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "taskflow.task.service", histogram = true)
 public class TaskService {
     
+    private static final int MAX_ASSIGNEE_FILTERS = 20;
+    
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final TaskMapper taskMapper;
+    private final TaskResponseCache taskResponseCache;
+    private final TaskCounterRepository taskCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${taskflow.pagination.max-size:100}")
+    private int maxPageSize;
     
     @Transactional
     public TaskResponse createTask(TaskRequest request, String creatorEmail) {
@@ -44,46 +75,114 @@ public class TaskService {
         }
         
         task = taskRepository.save(task);
-        return toResponse(task);
+        taskCounterRepository.apply(new TaskCounterDelta().add(task));
+        TaskResponse response = taskMapper.toResponse(task);
+        publish(TaskEvent.Type.CREATED, task, Set.of(), null, response);
+        return response;
     }
     
+    /**
+     * La réponse mise en cache est lue sur le primaire : la connexion n'est prise qu'à la première requête SQL,
+     * dans le chargeur. Un réplica en retard la figerait jusqu'à l'expiration de l'entrée.
+     */
     @Transactional(readOnly = true)
     public TaskResponse getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        return taskResponseCache.get(id, taskId -> ReplicaRoutingDataSource.readFromPrimary(() -> {
+            Task task = taskRepository.findById(taskId)
+                .orElseThrow(() -> new RuntimeException("Tâche introuvable"));
+            return taskMapper.toResponse(task);
+        }));
+    }
+    
+    @Transactional(readOnly = true)
+    public TaskValidator getTaskValidator(Long id) {
+        return taskRepository.findValidatorById(id)
             .orElseThrow(() -> new RuntimeException("Tâche introuvable"));
-        return toResponse(task);
     }
     
     @Transactional(readOnly = true)
-    public Page<TaskResponse> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable).map(this::toResponse);
+    public String getListFingerprint() {
+        return taskRepository.findListFingerprint();
+    }
+    
+    /**
+     * Liste filtrée : tous les critères renseignés sont combinés, y compris la recherche.
+     */
+    @Transactional(readOnly = true)
+    public Page<TaskResponse> getTasks(TaskFilter filter, Pageable pageable) {
+        return getTasks(filter, pageable, TaskView.FULL);
     }
     
+    /**
+     * Ce qui n'est pas demandé par {@code view} n'est pas lu : ni la description, ni les assignations,
+     * ni le détail des utilisateurs (les réponses ne portent alors que leur identifiant).
+     */
     @Transactional(readOnly = true)
-    public Page<TaskResponse> searchTasks(String keyword, Pageable pageable) {
-        return taskRepository.searchByKeyword(keyword, pageable).map(this::toResponse);
+    public Page<TaskResponse> getTasks(TaskFilter filter, Pageable pageable, TaskView view) {
+        checkPageSize(pageable.getPageSize());
+        checkFilter(filter);
+        return toResponsePage(taskRepository.findByFilter(filter, pageable, view.includes(TaskView.DESCRIPTION)), view);
     }
     
     @Transactional(readOnly = true)
-    public Page<TaskResponse> getTasksByFilters(
-        String status, String priority, Long creatorId, Pageable pageable
+    public CursorPage<TaskResponse> getTasksAfter(
+        TaskFilter filter, String after, String sortBy, Sort.Direction direction, int size
     ) {
-        Task.Status statusEnum = status != null ? Task.Status.valueOf(status.toUpperCase()) : null;
-        Task.Priority priorityEnum = priority != null ? Task.Priority.valueOf(priority.toUpperCase()) : null;
-        
-        return taskRepository.findByFilters(statusEnum, priorityEnum, creatorId, pageable)
-            .map(this::toResponse);
+        return getTasksAfter(filter, after, sortBy, direction, size, TaskView.FULL);
     }
     
     @Transactional(readOnly = true)
-    public Page<TaskResponse> getTasksByAssignedUser(Long userId, Pageable pageable) {
-        return taskRepository.findByAssignedUserId(userId, pageable).map(this::toResponse);
+    public CursorPage<TaskResponse> getTasksAfter(
+        TaskFilter filter, String after, String sortBy, Sort.Direction direction, int size, TaskView view
+    ) {
+        checkPageSize(size);
+        checkFilter(filter);
+        if (!TaskCursor.SORT_PROPERTIES.contains(sortBy)) {
+            throw new RuntimeException("Tri non supporté en mode curseur : " + sortBy);
+        }
+        TaskCursor cursor = after != null && !after.isEmpty() ? TaskCursor.decode(after) : null;
+        if (cursor != null && (!cursor.sortBy().equals(sortBy) || cursor.direction() != direction)) {
+            throw new RuntimeException("Le curseur ne correspond pas au tri demandé");
+        }
+        
+        List<TaskRow> tasks = taskRepository.findKeysetPage(
+            filter,
+            sortBy,
+            direction,
+            cursor != null ? cursor.value() : null,
+            cursor != null ? cursor.id() : null,
+            size + 1,
+            view.includes(TaskView.DESCRIPTION)
+        );
+        boolean hasNext = tasks.size() > size;
+        if (hasNext) {
+            tasks = tasks.subList(0, size);
+        }
+        List<TaskResponse> content = toResponses(tasks, view);
+        
+        return CursorPage.<TaskResponse>builder()
+            .content(content)
+            .size(size)
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? TaskCursor.of(tasks.get(tasks.size() - 1), sortBy, direction).encode() : null)
+            .build();
     }
     
     @Transactional
     public TaskResponse updateTask(Long id, TaskRequest request) {
+        return updateTask(id, request, null);
+    }
+    
+    /**
+     * @param expectedVersion version attendue par le client (If-Match), ou {@code null} pour ne pas la vérifier
+     */
+    @Transactional
+    public TaskResponse updateTask(Long id, TaskRequest request, Long expectedVersion) {
         Task task = taskRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Tâche introuvable"));
+        checkVersion(task, expectedVersion);
+        TaskCounterDelta counters = new TaskCounterDelta().remove(task);
+        Set<Long> previousAssigneeIds = assigneeIds(task);
         
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -94,78 +193,202 @@ public class TaskService {
         if (request.getAssignedUserIds() != null) {
             Set<User> assignedUsers = new HashSet<>(userRepository.findAllById(request.getAssignedUserIds()));
             task.setAssignedUsers(assignedUsers);
+            touchIfReassigned(task, previousAssigneeIds);
         }
         
-        task = taskRepository.save(task);
-        return toResponse(task);
+        task = save(task);
+        taskCounterRepository.apply(counters.add(task));
+        taskResponseCache.evictAfterCommit(id);
+        TaskResponse response = taskMapper.toResponse(task);
+        publish(TaskEvent.Type.UPDATED, task, previousAssigneeIds, null, response);
+        return response;
     }
     
     @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new RuntimeException("Tâche introuvable");
-        }
-        taskRepository.deleteById(id);
+        Task task = taskRepository.findById(id)
+            .orElseThrow(() -> new RuntimeException("Tâche introuvable"));
+        taskCounterRepository.apply(new TaskCounterDelta().remove(task));
+        taskRepository.delete(task);
+        taskResponseCache.evictAfterCommit(id);
+        publish(TaskEvent.Type.DELETED, task, Set.of(), null, null);
     }
     
     @Transactional
     public TaskResponse assignUserToTask(Long taskId, Long userId) {
+        return assignUserToTask(taskId, userId, null);
+    }
+    
+    @Transactional
+    public TaskResponse assignUserToTask(Long taskId, Long userId, Long expectedVersion) {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Tâche introuvable"));
+        checkVersion(task, expectedVersion);
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new RuntimeException("Utilisateur introuvable"));
         
+        TaskCounterDelta counters = new TaskCounterDelta().remove(task);
+        Set<Long> previousAssigneeIds = assigneeIds(task);
         task.getAssignedUsers().add(user);
-        task = taskRepository.save(task);
-        return toResponse(task);
+        touchIfReassigned(task, previousAssigneeIds);
+        task = save(task);
+        taskCounterRepository.apply(counters.add(task));
+        taskResponseCache.evictAfterCommit(taskId);
+        TaskResponse response = taskMapper.toResponse(task);
+        publish(TaskEvent.Type.ASSIGNED, task, Set.of(), userId, response);
+        return response;
     }
     
     @Transactional
     public TaskResponse unassignUserFromTask(Long taskId, Long userId) {
+        return unassignUserFromTask(taskId, userId, null);
+    }
+    
+    @Transactional
+    public TaskResponse unassignUserFromTask(Long taskId, Long userId, Long expectedVersion) {
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> new RuntimeException("Tâche introuvable"));
+        checkVersion(task, expectedVersion);
         
+        TaskCounterDelta counters = new TaskCounterDelta().remove(task);
+        Set<Long> previousAssigneeIds = assigneeIds(task);
         task.getAssignedUsers().removeIf(user -> user.getId().equals(userId));
-        task = taskRepository.save(task);
-        return toResponse(task);
-    }
-    
-    private TaskResponse toResponse(Task task) {
-        return TaskResponse.builder()
-            .id(task.getId())
-            .title(task.getTitle())
-            .description(task.getDescription())
-            .status(task.getStatus().name())
-            .priority(task.getPriority().name())
-            .dueDate(task.getDueDate())
-            .creator(toUserResponse(task.getCreator()))
-            .assignedUsers(task.getAssignedUsers().stream()
-                .map(this::toUserResponse)
-                .collect(Collectors.toSet()))
-            .createdAt(task.getCreatedAt())
-            .updatedAt(task.getUpdatedAt())
-            .build();
+        touchIfReassigned(task, previousAssigneeIds);
+        task = save(task);
+        taskCounterRepository.apply(counters.add(task));
+        taskResponseCache.evictAfterCommit(taskId);
+        TaskResponse response = taskMapper.toResponse(task);
+        publish(TaskEvent.Type.UNASSIGNED, task, previousAssigneeIds, userId, response);
+        return response;
+    }
+    
+    /**
+     * Borne le coût d'une page : chaque ligne entraîne aussi le chargement de ses assignés.
+     */
+    private void checkPageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new RuntimeException("La taille de page doit être comprise entre 1 et " + maxPageSize);
+        }
+    }
+    
+    private static void checkFilter(TaskFilter filter) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new RuntimeException("La date d'échéance minimale doit précéder la date maximale");
+        }
+        if (filter.getAssignedUserIds() != null && filter.getAssignedUserIds().size() > MAX_ASSIGNEE_FILTERS) {
+            throw new RuntimeException("Au plus " + MAX_ASSIGNEE_FILTERS + " utilisateurs assignés par filtre");
+        }
+    }
+    
+    /**
+     * Une modification concurrente survenue après cette vérification est rejetée au flush
+     * par le verrou optimiste de {@link Task#getVersion()}.
+     */
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("La tâche a été modifiée entre-temps");
+        }
+    }
+    
+    /**
+     * Écrit la modification tout de suite : la réponse, son ETag et l'événement portent la nouvelle version.
+     */
+    private Task save(Task task) {
+        Task saved = taskRepository.save(task);
+        taskRepository.flush();
+        return saved;
+    }
+    
+    /**
+     * L'événement est diffusé par {@link TaskEventBroadcaster} après le commit, jamais pour une transaction annulée.
+     */
+    private void publish(
+        TaskEvent.Type type, Task task, Set<Long> previousAssigneeIds, Long userId, TaskResponse response
+    ) {
+        eventPublisher.publishEvent(event(type, task, previousAssigneeIds, userId, response));
     }
     
-    private UserResponse toUserResponse(User user) {
-        return UserResponse.builder()
-            .id(user.getId())
-            .email(user.getEmail())
-            .username(user.getUsername())
-            .firstName(user.getFirstName())
-            .lastName(user.getLastName())
-            .role(user.getRole().name())
-            .enabled(user.getEnabled())
-            .createdAt(user.getCreatedAt())
+    /**
+     * À construire après le flush : la version est celle de l'ETag renvoyé au client.
+     */
+    static TaskEvent event(
+        TaskEvent.Type type, Task task, Set<Long> previousAssigneeIds, Long userId, TaskResponse response
+    ) {
+        Set<Long> assigneeIds = new HashSet<>(previousAssigneeIds);
+        assigneeIds.addAll(assigneeIds(task));
+        return TaskEvent.builder()
+            .type(type)
+            .taskId(task.getId())
+            .version(task.getVersion())
+            .userId(userId)
+            .task(response)
+            .creatorId(task.getCreator().getId())
+            .assigneeIds(assigneeIds)
             .build();
     }
     
-    private Task.Status parseStatus(String status) {
+    static Set<Long> assigneeIds(Task task) {
+        return task.getAssignedUsers().stream().map(User::getId).collect(Collectors.toSet());
+    }
+    
+    /**
+     * Un changement des seuls assignés incrémente la version mais pas {@code updated_at} :
+     * {@code @UpdateTimestamp} ne suit que les colonnes de {@code tasks}, et l'empreinte des listes
+     * ({@link TaskRepository#findListFingerprint()}) resterait inchangée.
+     */
+    static void touchIfReassigned(Task task, Set<Long> previousAssigneeIds) {
+        if (!assigneeIds(task).equals(previousAssigneeIds)) {
+            task.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+    
+    private Page<TaskResponse> toResponsePage(Page<TaskRow> tasks, TaskView view) {
+        return new PageImpl<>(toResponses(tasks.getContent(), view), tasks.getPageable(), tasks.getTotalElements());
+    }
+    
+    /**
+     * Assignés de toute la page en une requête sur la table de jointure, puis créateurs et assignés
+     * résolus ensemble par le cache de second niveau : une page déjà vue ne relit pas {@code users}.
+     * Quand la vue se contente des identifiants, les utilisateurs ne sont pas chargés du tout.
+     */
+    private List<TaskResponse> toResponses(List<TaskRow> tasks, TaskView view) {
+        if (tasks.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<Long>> assigneeIds = !view.includes(TaskView.ASSIGNED_USERS) ? Map.of() : taskRepository
+            .findAssigneeRows(tasks.stream().map(TaskRow::id).toList())
+            .stream()
+            .collect(Collectors.groupingBy(
+                AssigneeRow::taskId,
+                Collectors.mapping(AssigneeRow::userId, Collectors.toList())
+            ));
+        
+        Function<Long, UserResponse> users = taskMapper::toUserReference;
+        if (view.needsUsers()) {
+            Set<Long> userIds = new HashSet<>();
+            tasks.forEach(task -> userIds.add(task.creatorId()));
+            assigneeIds.values().forEach(userIds::addAll);
+            Map<Long, User> loaded = userRepository.findCachedByIds(userIds);
+            users = id -> loaded.containsKey(id) ? taskMapper.toUserResponse(loaded.get(id)) : null;
+        }
+        
+        List<TaskResponse> responses = new ArrayList<>(tasks.size());
+        for (TaskRow task : tasks) {
+            List<UserResponse> assignedUsers = assigneeIds.getOrDefault(task.id(), List.of()).stream()
+                .map(users)
+                .filter(Objects::nonNull)
+                .toList();
+            responses.add(taskMapper.toResponse(task, users.apply(task.creatorId()), assignedUsers));
+        }
+        return responses;
+    }
+    
+    static Task.Status parseStatus(String status) {
         if (status == null) return Task.Status.TODO;
         return Task.Status.valueOf(status.toUpperCase());
     }
     
-    private Task.Priority parsePriority(String priority) {
+    static Task.Priority parsePriority(String priority) {
         if (priority == null) return Task.Priority.MEDIUM;
         return Task.Priority.valueOf(priority.toUpperCase());
     }
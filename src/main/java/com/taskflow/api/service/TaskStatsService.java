@@ -0,0 +1,101 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.TaskStatsResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
+import com.taskflow.api.repository.TaskCounterDelta;
+import com.taskflow.api.repository.TaskCounterRepository;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Statistiques lues dans la table task_counters, tenue à jour par deltas dans les transactions
+ * d'écriture : le coût d'une lecture dépend du nombre de statuts, priorités et répartitions,
+ * pas du nombre de tâches.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskStatsService {
+    
+    private final TaskCounterRepository taskCounterRepository;
+    private final MeterRegistry meterRegistry;
+    
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getStats(Long creatorId, Long assigneeId) {
+        if (creatorId != null && assigneeId != null) {
+            throw new RuntimeException("Choisir un créateur ou un assigné, pas les deux");
+        }
+        TaskCounter.Scope scope = creatorId != null ? TaskCounter.Scope.CREATOR
+            : assigneeId != null ? TaskCounter.Scope.ASSIGNEE
+            : TaskCounter.Scope.ALL;
+        Long userId = creatorId != null ? creatorId : assigneeId != null ? assigneeId : TaskCounter.NO_USER;
+        
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        Map<String, Map<String, Long>> byStatusAndPriority = new LinkedHashMap<>();
+        for (Task.Status status : Task.Status.values()) {
+            byStatus.put(status.name(), 0L);
+            Map<String, Long> priorities = new LinkedHashMap<>();
+            for (Task.Priority priority : Task.Priority.values()) {
+                priorities.put(priority.name(), 0L);
+                byPriority.put(priority.name(), 0L);
+            }
+            byStatusAndPriority.put(status.name(), priorities);
+        }
+        
+        long total = 0;
+        for (TaskCountRow row : taskCounterRepository.sumByScope(scope, userId)) {
+            total += row.count();
+            byStatus.merge(row.status().name(), row.count(), Long::sum);
+            byPriority.merge(row.priority().name(), row.count(), Long::sum);
+            byStatusAndPriority.get(row.status().name()).put(row.priority().name(), row.count());
+        }
+        
+        return TaskStatsResponse.builder()
+            .scope(scope.name())
+            .userId(scope == TaskCounter.Scope.ALL ? null : userId)
+            .total(total)
+            .byStatus(byStatus)
+            .byPriority(byPriority)
+            .byStatusAndPriority(byStatusAndPriority)
+            .build();
+    }
+    
+    /**
+     * Compare les compteurs à un recomptage complet et corrige l'écart par un delta.
+     * En REPEATABLE READ, le recomptage et la somme des compteurs voient le même instantané ;
+     * une écriture concurrente sur un compteur fait échouer la correction, reprise au passage suivant.
+     * Chaque instance planifie ce passage ; un verrou en base n'en laisse qu'une corriger, les autres
+     * s'arrêtent aussitôt. Le verrou est pris par la première instruction, avant toute lecture.
+     *
+     * @return nombre de compteurs corrigés, 0 si une autre instance réconcilie déjà
+     */
+    @Scheduled(cron = "${taskflow.stats.reconcile-cron:0 30 3 * * *}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile() {
+        if (!taskCounterRepository.tryLockReconciliation()) {
+            meterRegistry.counter("taskflow.stats.reconcile.skipped").increment();
+            return 0;
+        }
+        TaskCounterDelta drift = new TaskCounterDelta();
+        taskCounterRepository.countTasks(null).entries().forEach(drift::add);
+        taskCounterRepository.sumCounters().negate().entries().forEach(drift::add);
+        
+        Map<TaskCounterDelta.Key, Long> corrections = drift.entries();
+        meterRegistry.counter("taskflow.stats.reconcile.runs").increment();
+        if (corrections.isEmpty()) {
+            return 0;
+        }
+        taskCounterRepository.apply(drift);
+        meterRegistry.counter("taskflow.stats.drift").increment(corrections.size());
+        return corrections.size();
+    }
+}
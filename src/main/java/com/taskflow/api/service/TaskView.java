@@ -0,0 +1,167 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.UserResponse;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Forme d'une liste de tâches demandée par le client : champs retenus ({@code fields}), références
+ * d'utilisateurs développées ({@code expand}) et format normalisé ({@code format=normalized}).
+ * <p>
+ * Une référence non développée est rendue par son identifiant ({@code creatorId}, {@code assignedUserIds}).
+ * En format normalisé, toutes les références le sont et les utilisateurs de la page sont regroupés une seule fois.
+ */
+public record TaskView(Set<String> fields, Set<String> expanded, boolean normalized) {
+    
+    public static final String DESCRIPTION = "description";
+    public static final String CREATOR = "creator";
+    public static final String ASSIGNED_USERS = "assignedUsers";
+    
+    /**
+     * Champs d'une tâche, dans l'ordre de la réponse complète.
+     */
+    public static final List<String> FIELDS = List.of(
+        "id", "title", DESCRIPTION, "status", "priority", "dueDate",
+        CREATOR, ASSIGNED_USERS, "createdAt", "updatedAt", "version"
+    );
+    
+    private static final List<String> REFERENCES = List.of(CREATOR, ASSIGNED_USERS);
+    
+    /**
+     * Réponse complète : tous les champs, utilisateurs développés.
+     */
+    public static final TaskView FULL = new TaskView(Set.copyOf(FIELDS), Set.copyOf(REFERENCES), false);
+    
+    /**
+     * @param fields champs séparés par des virgules, {@code null} pour tous ; {@code id} est toujours rendu
+     * @param expand références développées, vide ou {@code none} pour aucune, {@code null} pour toutes
+     * @param format {@code normalized}, ou {@code null} / {@code embedded} pour les utilisateurs dans chaque tâche
+     */
+    public static TaskView parse(String fields, String expand, String format) {
+        boolean normalized = parseFormat(format);
+        if (normalized && expand != null) {
+            throw new RuntimeException("expand ne s'applique pas au format normalisé");
+        }
+        
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        selected.addAll(fields != null ? split(fields, FIELDS, "Champ inconnu : ") : FIELDS);
+        
+        Set<String> expanded;
+        if (normalized) {
+            expanded = Set.of();
+        } else if (expand == null) {
+            expanded = Set.copyOf(REFERENCES);
+        } else if (expand.isBlank() || "none".equalsIgnoreCase(expand.trim())) {
+            expanded = Set.of();
+        } else {
+            expanded = split(expand, REFERENCES, "Référence non développable : ");
+        }
+        return new TaskView(selected, expanded, normalized);
+    }
+    
+    public boolean includes(String field) {
+        return fields.contains(field);
+    }
+    
+    /**
+     * Vrai si la réponse doit contenir le détail d'au moins un utilisateur, pas seulement son identifiant.
+     */
+    public boolean needsUsers() {
+        return REFERENCES.stream().anyMatch(reference -> includes(reference) && (normalized || expanded.contains(reference)));
+    }
+    
+    /**
+     * Tâche réduite aux champs retenus, clés dans l'ordre de {@link #FIELDS}.
+     */
+    public Map<String, Object> render(TaskResponse task) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        for (String field : FIELDS) {
+            if (!includes(field)) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> json.put(field, task.getId());
+                case "title" -> json.put(field, task.getTitle());
+                case DESCRIPTION -> json.put(field, task.getDescription());
+                case "status" -> json.put(field, task.getStatus());
+                case "priority" -> json.put(field, task.getPriority());
+                case "dueDate" -> json.put(field, task.getDueDate());
+                case CREATOR -> {
+                    if (isExpanded(CREATOR)) {
+                        json.put(field, task.getCreator());
+                    } else {
+                        json.put("creatorId", task.getCreator() != null ? task.getCreator().getId() : null);
+                    }
+                }
+                case ASSIGNED_USERS -> {
+                    if (isExpanded(ASSIGNED_USERS)) {
+                        json.put(field, task.getAssignedUsers());
+                    } else {
+                        json.put("assignedUserIds", task.getAssignedUsers().stream()
+                            .map(UserResponse::getId)
+                            .sorted()
+                            .toList());
+                    }
+                }
+                case "createdAt" -> json.put(field, task.getCreatedAt());
+                case "updatedAt" -> json.put(field, task.getUpdatedAt());
+                case "version" -> json.put(field, task.getVersion());
+                default -> throw new IllegalStateException(field);
+            }
+        }
+        return json;
+    }
+    
+    /**
+     * Utilisateurs référencés par les champs retenus des tâches, chacun une fois, par identifiant.
+     */
+    public Map<Long, UserResponse> users(Collection<TaskResponse> tasks) {
+        Map<Long, UserResponse> users = new TreeMap<>();
+        for (TaskResponse task : tasks) {
+            if (includes(CREATOR) && task.getCreator() != null) {
+                users.put(task.getCreator().getId(), task.getCreator());
+            }
+            if (includes(ASSIGNED_USERS)) {
+                task.getAssignedUsers().forEach(user -> users.put(user.getId(), user));
+            }
+        }
+        return users;
+    }
+    
+    private boolean isExpanded(String reference) {
+        return !normalized && expanded.contains(reference);
+    }
+    
+    private static boolean parseFormat(String format) {
+        if (format == null || "embedded".equalsIgnoreCase(format)) {
+            return false;
+        }
+        if ("normalized".equalsIgnoreCase(format)) {
+            return true;
+        }
+        throw new RuntimeException("Format de liste inconnu : " + format);
+    }
+    
+    private static Set<String> split(String values, List<String> allowed, String error) {
+        return Arrays.stream(values.split(","))
+            .map(String::trim)
+            .filter(value -> !value.isEmpty())
+            .map(value -> {
+                if (!allowed.contains(value)) {
+                    throw new RuntimeException(error + value + " (valeurs possibles : " + String.join(", ", allowed) + ")");
+                }
+                return value;
+            })
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,201 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.repository.OutboxRepository;
+import com.taskflow.api.repository.projection.OutboxDelivery;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Livre les lignes de l'outbox aux webhooks. Chaque passage réclame un lot sous bail, l'envoie avec le client
+ * HTTP asynchrone du JDK (au plus {@code max-concurrency} requêtes en vol), puis supprime les livraisons
+ * acceptées et replanifie les autres avec un délai exponentiel. Plusieurs instances peuvent tourner en parallèle.
+ * La livraison est « au moins une fois » : le destinataire dédoublonne avec {@code X-Taskflow-Delivery}.
+ * <p>
+ * Le planificateur partagé ne fait que déclencher un passage : l'attente des réponses se fait sur le thread
+ * propre au dispatcher, jamais sur celui des autres tâches planifiées.
+ */
+@Service
+public class WebhookDispatcher implements DisposableBean {
+    
+    static final String SIGNATURE_HEADER = "X-Taskflow-Signature";
+    
+    private final OutboxRepository outboxRepository;
+    private final MeterRegistry meterRegistry;
+    private final HttpClient httpClient;
+    private final Semaphore inFlight;
+    private final ExecutorService worker =
+        Executors.newSingleThreadExecutor(Thread.ofVirtual().name("webhook-dispatch").factory());
+    private final AtomicBoolean dispatching = new AtomicBoolean();
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    
+    public WebhookDispatcher(
+        OutboxRepository outboxRepository,
+        MeterRegistry meterRegistry,
+        @Value("${taskflow.webhooks.batch-size:100}") int batchSize,
+        @Value("${taskflow.webhooks.max-concurrency:20}") int maxConcurrency,
+        @Value("${taskflow.webhooks.lease:2m}") Duration lease,
+        @Value("${taskflow.webhooks.request-timeout:10s}") Duration requestTimeout,
+        @Value("${taskflow.webhooks.max-attempts:10}") int maxAttempts,
+        @Value("${taskflow.webhooks.initial-backoff:5s}") Duration initialBackoff,
+        @Value("${taskflow.webhooks.max-backoff:1h}") Duration maxBackoff
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.meterRegistry = meterRegistry;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        this.inFlight = new Semaphore(maxConcurrency);
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.requestTimeout = requestTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+    
+    /**
+     * Rend la main aussitôt. Tant qu'un passage est en cours, les déclenchements suivants sont ignorés
+     * plutôt que mis en file.
+     */
+    @Scheduled(fixedDelayString = "${taskflow.webhooks.poll-interval:1s}")
+    public void poll() {
+        if (!dispatching.compareAndSet(false, true)) {
+            return;
+        }
+        worker.execute(() -> {
+            try {
+                dispatch();
+            } finally {
+                dispatching.set(false);
+            }
+        });
+    }
+    
+    /**
+     * Passage complet, bloquant jusqu'à la dernière réponse du lot.
+     *
+     * @return nombre de livraisons tentées
+     */
+    public int dispatch() {
+        List<OutboxDelivery> deliveries = outboxRepository.claim(batchSize, lease);
+        if (deliveries.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<String>> outcomes = new ArrayList<>(deliveries.size());
+        for (OutboxDelivery delivery : deliveries) {
+            outcomes.add(send(delivery));
+        }
+        CompletableFuture.allOf(outcomes.toArray(CompletableFuture[]::new)).join();
+        
+        List<Long> delivered = new ArrayList<>();
+        for (int i = 0; i < deliveries.size(); i++) {
+            String error = outcomes.get(i).join();
+            if (error == null) {
+                delivered.add(deliveries.get(i).id());
+            } else {
+                reschedule(deliveries.get(i), error);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(delivered);
+            meterRegistry.counter("taskflow.webhooks.deliveries", "outcome", "delivered").increment(delivered.size());
+        }
+        return deliveries.size();
+    }
+    
+    /**
+     * @return {@code null} si le destinataire a répondu 2xx, sinon le motif de l'échec
+     */
+    private CompletableFuture<String> send(OutboxDelivery delivery) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(delivery.url()))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .header("X-Taskflow-Event", delivery.eventType().toLowerCase())
+                .header("X-Taskflow-Delivery", delivery.id().toString())
+                .header(SIGNATURE_HEADER, "sha256=" + sign(delivery.secret(), delivery.payload()))
+                .POST(HttpRequest.BodyPublishers.ofString(delivery.payload(), StandardCharsets.UTF_8))
+                .build();
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture("URL invalide : " + e.getMessage());
+        }
+        
+        inFlight.acquireUninterruptibly();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .handle((response, failure) -> {
+                inFlight.release();
+                if (failure != null) {
+                    return failure.getClass().getSimpleName() + " : " + failure.getMessage();
+                }
+                return response.statusCode() / 100 == 2 ? null : "HTTP " + response.statusCode();
+            });
+    }
+    
+    private void reschedule(OutboxDelivery delivery, String error) {
+        int attempts = delivery.attempts() + 1;
+        LocalDateTime now = LocalDateTime.now();
+        boolean dead = attempts >= maxAttempts;
+        outboxRepository.markFailed(
+            delivery.id(),
+            attempts,
+            now.plus(backoff(attempts)),
+            dead ? now : null,
+            error.length() > 500 ? error.substring(0, 500) : error
+        );
+        meterRegistry.counter("taskflow.webhooks.deliveries", "outcome", dead ? "dead" : "retried").increment();
+    }
+    
+    /**
+     * Délai avant le prochain essai : {@code initial-backoff} doublé à chaque échec, plafonné à {@code max-backoff}.
+     */
+    Duration backoff(int attempts) {
+        int doublings = Math.min(attempts - 1, 30);
+        Duration delay = initialBackoff.multipliedBy(1L << doublings);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+    
+    static String sign(String secret, String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 indisponible", e);
+        }
+    }
+    
+    @Override
+    public void destroy() {
+        worker.shutdownNow();
+        httpClient.shutdownNow();
+    }
+}
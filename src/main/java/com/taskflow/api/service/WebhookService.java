@@ -0,0 +1,74 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.WebhookRequest;
+import com.taskflow.api.dto.WebhookResponse;
+import com.taskflow.api.entity.Webhook;
+import com.taskflow.api.repository.WebhookRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class WebhookService {
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    
+    private final WebhookRepository webhookRepository;
+    
+    @Transactional
+    public WebhookResponse createWebhook(WebhookRequest request) {
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+        Webhook webhook = webhookRepository.save(Webhook.builder()
+            .url(validateUrl(request.getUrl()))
+            .secret(HexFormat.of().formatHex(secret))
+            .build());
+        
+        WebhookResponse response = toResponse(webhook);
+        response.setSecret(webhook.getSecret());
+        return response;
+    }
+    
+    @Transactional(readOnly = true)
+    public List<WebhookResponse> getWebhooks() {
+        return webhookRepository.findAll().stream().map(WebhookService::toResponse).toList();
+    }
+    
+    /**
+     * Les livraisons en attente pour ce webhook sont supprimées avec lui (ON DELETE CASCADE).
+     */
+    @Transactional
+    public void deleteWebhook(Long id) {
+        if (!webhookRepository.existsById(id)) {
+            throw new RuntimeException("Webhook introuvable");
+        }
+        webhookRepository.deleteById(id);
+    }
+    
+    private static String validateUrl(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                return url;
+            }
+        } catch (IllegalArgumentException e) {
+            // URL mal formée : même message que pour un schéma non supporté
+        }
+        throw new RuntimeException("URL de webhook invalide : " + url);
+    }
+    
+    private static WebhookResponse toResponse(Webhook webhook) {
+        return WebhookResponse.builder()
+            .id(webhook.getId())
+            .url(webhook.getUrl())
+            .enabled(webhook.getEnabled())
+            .createdAt(webhook.getCreatedAt())
+            .build();
+    }
+}
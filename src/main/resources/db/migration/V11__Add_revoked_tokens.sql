@@ -0,0 +1,11 @@
+-- Jetons d'accès révoqués avant leur expiration : jti d'un jeton, ou « user:<id>:<version> » pour toutes
+-- les sessions d'un utilisateur. Chaque instance relit les lignes récentes (TokenRevocationList).
+CREATE TABLE revoked_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_id VARCHAR(64) NOT NULL UNIQUE,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens(revoked_at);
+CREATE INDEX idx_revoked_tokens_expires ON revoked_tokens(expires_at);
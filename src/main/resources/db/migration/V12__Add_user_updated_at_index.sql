@@ -0,0 +1,2 @@
+-- Empreinte des listes (ETag) : MAX(updated_at) lu par l'index, sans parcourir users
+CREATE INDEX idx_users_updated_at ON users(updated_at);
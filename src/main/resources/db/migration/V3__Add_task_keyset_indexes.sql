@@ -0,0 +1,2 @@
+CREATE INDEX idx_tasks_created_at_id ON tasks(created_at, id);
+CREATE INDEX idx_tasks_updated_at_id ON tasks(updated_at, id);
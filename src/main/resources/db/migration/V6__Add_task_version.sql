@@ -0,0 +1,2 @@
+-- Version pour le verrouillage optimiste (@Version) et les ETag de GET /api/tasks/{id}
+ALTER TABLE tasks ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,16 @@
+-- Index composites alignés sur les filtres combinables de GET /api/tasks (TaskFilterQuery).
+-- Chacun se termine par created_at pour servir le tri par défaut (created_at DESC) et le LIMIT
+-- sans tri explicite.
+CREATE INDEX idx_tasks_status_priority_created_at ON tasks(status, priority, created_at);
+CREATE INDEX idx_tasks_status_created_at ON tasks(status, created_at);
+CREATE INDEX idx_tasks_priority_created_at ON tasks(priority, created_at);
+CREATE INDEX idx_tasks_creator_created_at ON tasks(creator_id, created_at);
+
+-- Semi-jointure « tâches assignées à un utilisateur » sans relire la table d'assignation
+CREATE INDEX idx_task_assignments_user_task ON task_assignments(user_id, task_id);
+
+-- Préfixes des index ci-dessus, devenus redondants
+DROP INDEX idx_tasks_status;
+DROP INDEX idx_tasks_priority;
+DROP INDEX idx_tasks_creator_id;
+DROP INDEX idx_task_assignments_user_id;
@@ -0,0 +1,29 @@
+-- Compteurs de tâches maintenus par delta (TaskCounterRepository) pour GET /api/tasks/stats.
+-- Chaque compteur est réparti sur 16 lignes (slot) pour éviter qu'une seule ligne chaude
+-- sérialise toutes les écritures ; user_id vaut 0 pour le périmètre ALL.
+CREATE TABLE task_counters (
+    scope VARCHAR(20) NOT NULL,
+    user_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    slot INTEGER NOT NULL,
+    task_count BIGINT NOT NULL,
+    PRIMARY KEY (scope, user_id, status, priority, slot)
+);
+
+-- Amorçage à partir des données existantes, sur le slot 0
+INSERT INTO task_counters (scope, user_id, status, priority, slot, task_count)
+SELECT 'ALL', 0, status, priority, 0, COUNT(*)
+FROM tasks
+GROUP BY status, priority;
+
+INSERT INTO task_counters (scope, user_id, status, priority, slot, task_count)
+SELECT 'CREATOR', creator_id, status, priority, 0, COUNT(*)
+FROM tasks
+GROUP BY creator_id, status, priority;
+
+INSERT INTO task_counters (scope, user_id, status, priority, slot, task_count)
+SELECT 'ASSIGNEE', ta.user_id, t.status, t.priority, 0, COUNT(*)
+FROM task_assignments ta
+JOIN tasks t ON t.id = ta.task_id
+GROUP BY ta.user_id, t.status, t.priority;
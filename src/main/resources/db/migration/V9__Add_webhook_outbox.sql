@@ -0,0 +1,28 @@
+CREATE TABLE webhooks (
+    id BIGSERIAL PRIMARY KEY,
+    url VARCHAR(500) NOT NULL,
+    secret VARCHAR(100) NOT NULL,
+    enabled BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Une ligne par événement et par webhook, écrite dans la transaction de la modification (OutboxRepository)
+CREATE TABLE task_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    webhook_id BIGINT NOT NULL,
+    task_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    dead_at TIMESTAMP,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT fk_outbox_webhook FOREIGN KEY (webhook_id) REFERENCES webhooks(id) ON DELETE CASCADE
+);
+
+-- Lignes à livrer, dans l'ordre d'écriture
+CREATE INDEX idx_task_outbox_pending ON task_outbox(id) WHERE dead_at IS NULL;
+-- Recherche d'une ligne antérieure pour la même tâche et le même webhook (ordre par tâche)
+CREATE INDEX idx_task_outbox_webhook_task ON task_outbox(webhook_id, task_id, id) WHERE dead_at IS NULL;
@@ -0,0 +1,72 @@
+package com.taskflow.api.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+    
+    @Mock
+    private DataSource targetDataSource;
+    
+    @Mock
+    private Connection targetConnection;
+    
+    private ConcurrencyLimitedDataSource dataSource;
+    
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+    
+    @Test
+    void getConnection_ShouldTimeOut_WhenAllPermitsAreTaken() throws Exception {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection first = dataSource.getConnection();
+        
+        // When & Then
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(targetDataSource, times(1)).getConnection();
+        
+        first.close();
+        assertNotNull(dataSource.getConnection());
+    }
+    
+    @Test
+    void close_ShouldReleasePermitOnlyOnce() throws Exception {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+        
+        // When
+        connection.close();
+        connection.close();
+        
+        // Then
+        assertEquals(1, dataSource.availablePermits());
+        verify(targetConnection, times(1)).close();
+    }
+    
+    @Test
+    void getConnection_ShouldReleasePermit_WhenPoolFails() throws Exception {
+        // Given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool épuisé"));
+        
+        // When & Then
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.availablePermits());
+    }
+}
@@ -0,0 +1,122 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Le « réplica » est la même base H2, ouverte en lecture seule : seul le remplissage du cache est observé.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:replica-read;DB_CLOSE_DELAY=-1",
+    "taskflow.datasource.replicas.urls=jdbc:h2:mem:replica-read;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReadReplicaConfig.class, ReplicaReadJpaDialectTest.Metrics.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReplicaReadJpaDialectTest {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    private TransactionTemplate readOnly;
+    private Long userId;
+    
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        userId = new TransactionTemplate(transactionManager).execute(status -> userRepository.save(User.builder()
+            .email("replica@example.com")
+            .username("replica")
+            .password("password")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build()).getId());
+        entityManagerFactory.getCache().evictAll();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository.deleteAll());
+        entityManagerFactory.getCache().evictAll();
+    }
+    
+    @Test
+    void replicaRead_ShouldNotFillSecondLevelCache() {
+        // When
+        User user = readOnly.execute(status -> userRepository.findById(userId).orElseThrow());
+        
+        // Then
+        assertEquals("replica@example.com", user.getEmail());
+        assertFalse(entityManagerFactory.getCache().contains(User.class, userId));
+    }
+    
+    @Test
+    void replicaMultiLoad_ShouldReadButNotFillSecondLevelCache() {
+        // Given
+        readOnly.execute(status -> userRepository.findCachedByIds(Set.of(userId)));
+        boolean filledByReplica = entityManagerFactory.getCache().contains(User.class, userId);
+        ReplicaRoutingDataSource.readFromPrimary(() -> readOnly.execute(status -> userRepository.findById(userId)));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // When
+        Map<Long, User> users = readOnly.execute(status -> userRepository.findCachedByIds(Set.of(userId)));
+        
+        // Then
+        assertFalse(filledByReplica);
+        assertEquals("replica@example.com", users.get(userId).getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+    
+    @Test
+    void readFromPrimary_ShouldFillSecondLevelCache() {
+        // When
+        ReplicaRoutingDataSource.readFromPrimary(
+            () -> readOnly.execute(status -> userRepository.findById(userId).orElseThrow())
+        );
+        
+        // Then
+        assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+    }
+    
+    @TestConfiguration
+    static class Metrics {
+        
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
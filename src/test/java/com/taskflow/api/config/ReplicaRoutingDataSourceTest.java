@@ -0,0 +1,173 @@
+package com.taskflow.api.config;
+
+import com.taskflow.api.entity.User;
+import com.taskflow.api.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bases H2 en mémoire à la place du primaire et des réplicas : chacune renvoie son nom.
+ */
+class ReplicaRoutingDataSourceTest {
+    
+    private final AtomicLong now = new AtomicLong(1);
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = node("primary");
+        replica1 = node("replica1");
+        replica2 = node("replica2");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void getConnection_ShouldSendReadOnlyConnectionsToReplicasInTurn() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource routing = routing(List.of(replica1, replica2), Duration.ZERO);
+        
+        // When & Then
+        assertEquals("replica1", query(routing, true));
+        assertEquals("replica2", query(routing, true));
+        assertEquals("replica1", query(routing, true));
+        assertEquals("primary", query(routing, false));
+    }
+    
+    @Test
+    void getConnection_ShouldSkipFailedReplicaUntilRetryAndFallBackToPrimary() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource routing = routing(List.of(missing(), replica2), Duration.ZERO);
+        
+        // When
+        String first = query(routing, true);
+        String second = query(routing, true);
+        int healthyAfterFailure = routing.healthyReplicas();
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        int healthyAfterRetryDelay = routing.healthyReplicas();
+        
+        // Then
+        assertEquals("replica2", first);
+        assertEquals("replica2", second);
+        assertEquals(1, healthyAfterFailure);
+        assertEquals(2, healthyAfterRetryDelay);
+        assertEquals("primary", query(routing(List.of(missing()), Duration.ZERO), true));
+    }
+    
+    @Test
+    void checkReplicas_ShouldMarkUnreachableReplicaDown() {
+        // Given
+        ReplicaRoutingDataSource routing = routing(List.of(replica1, missing()), Duration.ZERO);
+        
+        // When
+        routing.checkReplicas();
+        
+        // Then
+        assertEquals(1, routing.healthyReplicas());
+    }
+    
+    @Test
+    void getConnection_ShouldReadOwnWritesFromPrimaryDuringWindow() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource routing = routing(List.of(replica1), Duration.ofSeconds(5));
+        authenticate(1L);
+        
+        // When
+        query(routing, false);
+        String ownRead = query(routing, true);
+        authenticate(2L);
+        String otherUserRead = query(routing, true);
+        authenticate(1L);
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+        String readAfterWindow = query(routing, true);
+        
+        // Then
+        assertEquals("primary", ownRead);
+        assertEquals("replica1", otherUserRead);
+        assertEquals("replica1", readAfterWindow);
+    }
+    
+    @Test
+    void readFromPrimary_ShouldSendReadsToPrimaryWithoutStickingTheUser() throws SQLException {
+        // Given
+        ReplicaRoutingDataSource routing = routing(List.of(replica1), Duration.ofSeconds(5));
+        // La première connexion lit les réglages par défaut sur le primaire : la faire hors authentification
+        query(routing, true);
+        authenticate(1L);
+        
+        // When
+        String cacheFill = ReplicaRoutingDataSource.readFromPrimary(() -> {
+            try {
+                return query(routing, true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        String nextRead = query(routing, true);
+        
+        // Then
+        assertEquals("primary", cacheFill);
+        assertEquals("replica1", nextRead);
+        assertFalse(ReplicaRoutingDataSource.isReadingFromPrimary());
+    }
+    
+    private ReplicaRoutingDataSource routing(List<DataSource> replicas, Duration readYourWrites) {
+        return new ReplicaRoutingDataSource(
+            primary, replicas, ReplicaRoutingDataSource.Strategy.ROUND_ROBIN,
+            Duration.ofSeconds(5), readYourWrites, new SimpleMeterRegistry(), now::get
+        );
+    }
+    
+    private static String query(DataSource dataSource, boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+    
+    private static DataSource node(String name) throws SQLException {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+            statement.execute("DELETE FROM node");
+            statement.execute("INSERT INTO node VALUES ('" + name + "')");
+        }
+        return dataSource;
+    }
+    
+    private static DataSource missing() {
+        return new DriverManagerDataSource("jdbc:h2:mem:routing-missing;IFEXISTS=TRUE", "sa", "");
+    }
+    
+    private static void authenticate(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId + "@example.com", User.Role.USER, 0);
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(user, null, user.authorities())
+        );
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskflow.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestStatisticsFilterTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private RequestStatisticsFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestStatisticsFilter(meterRegistry);
+    }
+    
+    @Test
+    void doFilter_ShouldRecordCountersUnderRoutePattern() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/42");
+        
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            RequestStatistics.statementExecuted();
+            RequestStatistics.statementExecuted();
+            RequestStatistics.entityLoaded();
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+        });
+        
+        // Then
+        DistributionSummary statements = meterRegistry.get("taskflow.hibernate.request.statements")
+            .tag("uri", "/api/tasks/{id}")
+            .tag("method", "GET")
+            .summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        assertEquals(1, meterRegistry.get("taskflow.hibernate.request.entity.loads").summary().totalAmount());
+        assertEquals(0, meterRegistry.get("taskflow.hibernate.request.collection.fetches").summary().totalAmount());
+    }
+    
+    @Test
+    void doFilter_ShouldTagUnmatchedRoutesAsUnknown() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/missing/123"), new MockHttpServletResponse(), (req, res) -> {
+        });
+        
+        // Then
+        DistributionSummary statements = meterRegistry.get("taskflow.hibernate.request.statements")
+            .tag("uri", "UNKNOWN")
+            .summary();
+        assertEquals(1, statements.count());
+        assertEquals(0, statements.totalAmount());
+    }
+}
@@ -1,28 +1,56 @@
 package com.taskflow.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.CursorPage;
+import com.taskflow.api.dto.ImportReport;
+import com.taskflow.api.dto.TaskFilter;
 import com.taskflow.api.dto.TaskRequest;
 import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.TaskStatsResponse;
 import com.taskflow.api.dto.UserResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.exception.PreconditionFailedException;
+import com.taskflow.api.repository.projection.TaskValidator;
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.TokenRevocationList;
+import com.taskflow.api.service.TaskBatchService;
+import com.taskflow.api.service.TaskEventBroadcaster;
+import com.taskflow.api.service.TaskExportService;
+import com.taskflow.api.service.TaskImportService;
 import com.taskflow.api.service.TaskService;
+import com.taskflow.api.service.TaskStatsService;
+import com.taskflow.api.service.TaskView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +68,30 @@ class TaskControllerTest {
     @MockBean
     private TaskService taskService;
     
+    @MockBean
+    private TaskBatchService taskBatchService;
+    
+    @MockBean
+    private TaskExportService taskExportService;
+    
+    @MockBean
+    private TaskImportService taskImportService;
+    
+    @MockBean
+    private TaskStatsService taskStatsService;
+    
+    @MockBean
+    private TaskEventBroadcaster taskEventBroadcaster;
+    
+    @MockBean
+    private JwtService jwtService;
+    
+    @MockBean
+    private TokenRevocationList tokenRevocationList;
+    
+    @MockBean
+    private UserDetailsService userDetailsService;
+    
     private TaskResponse taskResponse;
     private TaskRequest taskRequest;
     
@@ -64,6 +116,7 @@ class TaskControllerTest {
             .assignedUsers(new HashSet<>())
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
+            .version(2L)
             .build();
         
         taskRequest = TaskRequest.builder()
@@ -77,10 +130,11 @@ class TaskControllerTest {
     @Test
     @WithMockUser
     void createTask_ShouldReturnCreatedTask() throws Exception {
-        when(taskService.createTask(any(TaskRequest.class), anyString())).thenReturn(taskResponse);
+        when(taskService.createTask(any(TaskRequest.class), eq("test@example.com"))).thenReturn(taskResponse);
         
         mockMvc.perform(post("/api/tasks")
                 .with(csrf())
+                .principal(new UsernamePasswordAuthenticationToken("test@example.com", null))
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(taskRequest)))
             .andExpect(status().isCreated())
@@ -88,6 +142,39 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.title").value("Test Task"));
     }
     
+    @Test
+    @WithMockUser(username = "test@example.com")
+    void streamTasks_ShouldSubscribeWithFilters() throws Exception {
+        when(taskEventBroadcaster.subscribe("test@example.com", true, 3L)).thenReturn(new SseEmitter());
+        
+        mockMvc.perform(get("/api/tasks/stream")
+                .principal(new UsernamePasswordAuthenticationToken("test@example.com", null))
+                .param("assignedToMe", "true")
+                .param("creatorId", "3")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted());
+        
+        verify(taskEventBroadcaster).subscribe("test@example.com", true, 3L);
+    }
+    
+    @Test
+    @WithMockUser
+    void getTaskStats_ShouldReturnCountsForAssignee() throws Exception {
+        TaskStatsResponse stats = TaskStatsResponse.builder()
+            .scope("ASSIGNEE")
+            .userId(2L)
+            .total(3)
+            .byStatus(Map.of("TODO", 3L))
+            .build();
+        when(taskStatsService.getStats(null, 2L)).thenReturn(stats);
+        
+        mockMvc.perform(get("/api/tasks/stats").param("assignedUserId", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.scope").value("ASSIGNEE"))
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.byStatus.TODO").value(3));
+    }
+    
     @Test
     @WithMockUser
     void getTaskById_ShouldReturnTask() throws Exception {
@@ -95,25 +182,186 @@ class TaskControllerTest {
         
         mockMvc.perform(get("/api/tasks/1"))
             .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
             .andExpect(jsonPath("$.id").value(1))
             .andExpect(jsonPath("$.title").value("Test Task"));
     }
     
+    @Test
+    @WithMockUser
+    void getTaskById_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+        LocalDateTime usersUpdatedAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+        taskResponse.setUsersUpdatedAt(usersUpdatedAt);
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+        when(taskService.getTaskValidator(1L)).thenReturn(new TaskValidator(2L, usersUpdatedAt));
+        String etag = mockMvc.perform(get("/api/tasks/1"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get("/api/tasks/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+        
+        verify(taskService, times(1)).getTaskById(anyLong());
+    }
+    
+    @Test
+    @WithMockUser
+    void getTaskById_ShouldReturnTask_WhenAnEmbeddedUserChanged() throws Exception {
+        LocalDateTime before = LocalDateTime.of(2030, 1, 1, 0, 0);
+        taskResponse.setUsersUpdatedAt(before);
+        when(taskService.getTaskById(1L)).thenReturn(taskResponse);
+        String etag = mockMvc.perform(get("/api/tasks/1"))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        LocalDateTime renamed = before.plusNanos(1_000);
+        when(taskService.getTaskValidator(1L)).thenReturn(new TaskValidator(2L, renamed));
+        taskResponse.setUsersUpdatedAt(renamed);
+        
+        mockMvc.perform(get("/api/tasks/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(jsonPath("$.usersUpdatedAt").doesNotExist());
+        
+        assertTrue(etag.startsWith("\"2."));
+    }
+    
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldReturnNotModified_WhenListIsUnchanged() throws Exception {
+        when(taskService.getListFingerprint()).thenReturn("10|2030-01-01T00:00|2030-01-01T00:00");
+        
+        String etag = mockMvc.perform(get("/api/tasks"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        
+        mockMvc.perform(get("/api/tasks")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+        
+        verify(taskService, times(1)).getTasks(any(), any());
+    }
+    
     @Test
     @WithMockUser
     void getAllTasks_ShouldReturnPageOfTasks() throws Exception {
         Page<TaskResponse> taskPage = new PageImpl<>(Collections.singletonList(taskResponse));
-        when(taskService.getAllTasks(any())).thenReturn(taskPage);
+        when(taskService.getTasks(any(), any())).thenReturn(taskPage);
         
         mockMvc.perform(get("/api/tasks"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.content[0].title").value("Test Task"));
     }
     
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldCombineEveryFilter() throws Exception {
+        Page<TaskResponse> taskPage = new PageImpl<>(Collections.singletonList(taskResponse));
+        ArgumentCaptor<TaskFilter> filter = ArgumentCaptor.forClass(TaskFilter.class);
+        when(taskService.getTasks(filter.capture(), any())).thenReturn(taskPage);
+        
+        mockMvc.perform(get("/api/tasks")
+                .param("search", "rapport")
+                .param("status", "in_progress")
+                .param("assignedUserId", "2")
+                .param("assignedUserIds", "3,4")
+                .param("assigneeMatch", "all")
+                .param("dueFrom", "2030-01-01T00:00:00")
+                .param("dueTo", "2030-01-31T23:59:59"))
+            .andExpect(status().isOk());
+        
+        assertEquals("rapport", filter.getValue().getSearch());
+        assertEquals(Task.Status.IN_PROGRESS, filter.getValue().getStatus());
+        assertEquals(List.of(2L, 3L, 4L), filter.getValue().getAssignedUserIds());
+        assertEquals(TaskFilter.AssigneeMatch.ALL, filter.getValue().getAssigneeMatch());
+        assertEquals(LocalDateTime.of(2030, 1, 1, 0, 0), filter.getValue().getDueFrom());
+        assertEquals(LocalDateTime.of(2030, 1, 31, 23, 59, 59), filter.getValue().getDueTo());
+    }
+    
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldRenderRequestedFieldsWithUserIds() throws Exception {
+        Page<TaskResponse> taskPage = new PageImpl<>(Collections.singletonList(taskResponse));
+        ArgumentCaptor<TaskView> view = ArgumentCaptor.forClass(TaskView.class);
+        when(taskService.getTasks(any(), any(), view.capture())).thenReturn(taskPage);
+        
+        mockMvc.perform(get("/api/tasks")
+                .param("fields", "title,creator,assignedUsers")
+                .param("expand", "none"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+            .andExpect(jsonPath("$.content[0].creatorId").value(1))
+            .andExpect(jsonPath("$.content[0].assignedUserIds").isEmpty())
+            .andExpect(jsonPath("$.content[0].creator").doesNotExist())
+            .andExpect(jsonPath("$.content[0].description").doesNotExist());
+        
+        assertFalse(view.getValue().includes(TaskView.DESCRIPTION));
+        assertFalse(view.getValue().needsUsers());
+    }
+    
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldReturnNormalizedPage() throws Exception {
+        Page<TaskResponse> taskPage = new PageImpl<>(Collections.singletonList(taskResponse));
+        when(taskService.getTasks(any(), any(), any())).thenReturn(taskPage);
+        
+        mockMvc.perform(get("/api/tasks")
+                .param("format", "normalized"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].creatorId").value(1))
+            .andExpect(jsonPath("$.content[0].creator").doesNotExist())
+            .andExpect(jsonPath("$.users['1'].email").value("test@example.com"))
+            .andExpect(jsonPath("$.totalElements").value(1));
+    }
+    
+    @Test
+    @WithMockUser
+    void getAllTasks_ShouldRejectUnknownField() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .param("fields", "title,password"))
+            .andExpect(status().isBadRequest());
+        
+        verify(taskService, never()).getTasks(any(), any(), any());
+    }
+    
+    @Test
+    @WithMockUser
+    void getTasksByCursor_ShouldReturnNextCursor() throws Exception {
+        CursorPage<TaskResponse> cursorPage = CursorPage.<TaskResponse>builder()
+            .content(Collections.singletonList(taskResponse))
+            .size(1)
+            .hasNext(true)
+            .nextCursor("next-token")
+            .build();
+        ArgumentCaptor<TaskFilter> filter = ArgumentCaptor.forClass(TaskFilter.class);
+        when(taskService.getTasksAfter(filter.capture(), eq("token"), eq("createdAt"), eq(Sort.Direction.DESC), eq(1)))
+            .thenReturn(cursorPage);
+        
+        mockMvc.perform(get("/api/tasks")
+                .param("pagination", "cursor")
+                .param("after", "token")
+                .param("size", "1")
+                .param("status", "todo")
+                .param("creatorId", "3"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("Test Task"))
+            .andExpect(jsonPath("$.nextCursor").value("next-token"))
+            .andExpect(jsonPath("$.totalElements").doesNotExist());
+        
+        assertEquals(Task.Status.TODO, filter.getValue().getStatus());
+        assertEquals(3L, filter.getValue().getCreatorId());
+    }
+    
     @Test
     @WithMockUser
     void updateTask_ShouldReturnUpdatedTask() throws Exception {
-        when(taskService.updateTask(eq(1L), any(TaskRequest.class))).thenReturn(taskResponse);
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), isNull())).thenReturn(taskResponse);
         
         mockMvc.perform(put("/api/tasks/1")
                 .with(csrf())
@@ -123,6 +371,69 @@ class TaskControllerTest {
             .andExpect(jsonPath("$.id").value(1));
     }
     
+    @Test
+    @WithMockUser
+    void updateTask_ShouldReturnPreconditionFailed_WhenIfMatchIsStale() throws Exception {
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), eq(1L)))
+            .thenThrow(new PreconditionFailedException("La tâche a été modifiée entre-temps"));
+        
+        mockMvc.perform(put("/api/tasks/1")
+                .with(csrf())
+                .header(HttpHeaders.IF_MATCH, "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message").value("La tâche a été modifiée entre-temps"));
+    }
+    
+    @Test
+    @WithMockUser
+    void updateTask_ShouldCheckOnlyTheTaskVersionOfIfMatch() throws Exception {
+        when(taskService.updateTask(eq(1L), any(TaskRequest.class), eq(2L))).thenReturn(taskResponse);
+        
+        mockMvc.perform(put("/api/tasks/1")
+                .with(csrf())
+                .header(HttpHeaders.IF_MATCH, "\"2.1a2b3c\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskRequest)))
+            .andExpect(status().isOk());
+    }
+    
+    @Test
+    @WithMockUser
+    void exportTasks_ShouldApplyExportTimeoutOnlyToExport() throws Exception {
+        // When
+        MvcResult export = mockMvc.perform(get("/api/tasks/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        
+        // Then
+        assertEquals(Duration.ofHours(1).toMillis(), export.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(export))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""));
+        verify(taskExportService).exportTasks(any(), eq(TaskExportService.Format.CSV), any());
+    }
+    
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importTasks_ShouldReturnReport() throws Exception {
+        ImportReport report = ImportReport.builder()
+            .totalRows(1)
+            .imported(1)
+            .errors(Collections.emptyList())
+            .build();
+        when(taskImportService.importTasks(any(), eq(TaskExportService.Format.CSV))).thenReturn(report);
+        
+        mockMvc.perform(post("/api/tasks/import")
+                .with(csrf())
+                .param("format", "csv")
+                .contentType("text/csv")
+                .content("title,creatorEmail\nTest Task,test@example.com\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1));
+    }
+    
     @Test
     @WithMockUser
     void deleteTask_ShouldReturnNoContent() throws Exception {
@@ -0,0 +1,113 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.OutboxEvent;
+import com.taskflow.api.entity.Webhook;
+import com.taskflow.api.repository.projection.OutboxDelivery;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OutboxRepositoryTest {
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    @Autowired
+    private OutboxRepository outboxRepository;
+    
+    private Webhook webhook;
+    
+    @BeforeEach
+    void setUp() {
+        webhook = entityManager.persist(Webhook.builder().url("http://localhost/hook").secret("secret").build());
+        entityManager.persist(Webhook.builder().url("http://localhost/disabled").secret("secret").enabled(false).build());
+        entityManager.flush();
+    }
+    
+    @Test
+    void enqueue_ShouldWriteOneRowPerEnabledWebhook() {
+        // When
+        outboxRepository.enqueue(1L, "CREATED", "{}");
+        
+        // Then
+        List<OutboxEvent> rows = outboxRepository.findAll();
+        assertEquals(1, rows.size());
+        assertEquals(webhook.getId(), rows.get(0).getWebhookId());
+        assertEquals(0, rows.get(0).getAttempts());
+    }
+    
+    @Test
+    void jdbcEnqueue_ShouldWriteOneRowPerTaskAndEnabledWebhookInTheConnectionTransaction() {
+        // When
+        entityManager.getEntityManager().unwrap(Session.class).doWork(connection -> OutboxRepositoryCustomImpl
+            .enqueue(connection, "CREATED", List.of(7L, 8L), taskId -> "{\"taskId\":" + taskId + "}"));
+        
+        // Then
+        List<OutboxEvent> rows = outboxRepository.findAll();
+        assertEquals(List.of(7L, 8L), rows.stream().map(OutboxEvent::getTaskId).sorted().toList());
+        assertTrue(rows.stream().allMatch(row -> row.getWebhookId().equals(webhook.getId())));
+        assertTrue(rows.stream().anyMatch(row -> row.getPayload().equals("{\"taskId\":8}")));
+    }
+    
+    @Test
+    void jdbcEnqueue_ShouldSkipPayloadsWithoutEnabledWebhook() {
+        // Given
+        entityManager.remove(webhook);
+        entityManager.flush();
+        
+        // When
+        entityManager.getEntityManager().unwrap(Session.class).doWork(connection -> OutboxRepositoryCustomImpl
+            .enqueue(connection, "CREATED", List.of(7L), taskId -> fail("Charge utile construite inutilement")));
+        
+        // Then
+        assertTrue(outboxRepository.findAll().isEmpty());
+    }
+    
+    @Test
+    void claim_ShouldOnlyReturnOldestPendingDeliveryPerTask() {
+        // Given
+        outboxRepository.enqueue(1L, "CREATED", "{\"n\":1}");
+        outboxRepository.enqueue(1L, "UPDATED", "{\"n\":2}");
+        outboxRepository.enqueue(2L, "CREATED", "{\"n\":3}");
+        
+        // When
+        List<OutboxDelivery> first = outboxRepository.claim(10, Duration.ofMinutes(1));
+        List<OutboxDelivery> whileLeased = outboxRepository.claim(10, Duration.ofMinutes(1));
+        outboxRepository.deleteAllByIdInBatch(first.stream().map(OutboxDelivery::id).toList());
+        List<OutboxDelivery> afterDelivery = outboxRepository.claim(10, Duration.ofMinutes(1));
+        
+        // Then
+        assertEquals(List.of("{\"n\":1}", "{\"n\":3}"), first.stream().map(OutboxDelivery::payload).toList());
+        assertEquals("http://localhost/hook", first.get(0).url());
+        assertTrue(whileLeased.isEmpty());
+        assertEquals(List.of("{\"n\":2}"), afterDelivery.stream().map(OutboxDelivery::payload).toList());
+    }
+    
+    @Test
+    void claim_ShouldSkipDeadDeliveriesWithoutBlockingLaterOnes() {
+        // Given
+        outboxRepository.enqueue(1L, "CREATED", "{\"n\":1}");
+        outboxRepository.enqueue(1L, "UPDATED", "{\"n\":2}");
+        Long firstId = outboxRepository.findAll().stream().mapToLong(OutboxEvent::getId).min().orElseThrow();
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.markFailed(firstId, 10, now, now, "HTTP 500");
+        
+        // When
+        List<OutboxDelivery> claimed = outboxRepository.claim(10, Duration.ofMinutes(1));
+        
+        // Then
+        assertEquals(List.of("{\"n\":2}"), claimed.stream().map(OutboxDelivery::payload).toList());
+    }
+}
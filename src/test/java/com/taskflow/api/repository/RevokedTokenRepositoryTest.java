@@ -0,0 +1,38 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.RevokedToken;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class RevokedTokenRepositoryTest {
+    
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    @Test
+    void insertIfAbsent_ShouldKeepFirstRevocationOfAToken() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.of(2030, 1, 1, 0, 15);
+        LocalDateTime revokedAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+        
+        // When
+        boolean first = revokedTokenRepository.insertIfAbsent("jti-1", expiresAt, revokedAt);
+        boolean second = revokedTokenRepository.insertIfAbsent("jti-1", expiresAt.plusMinutes(5), revokedAt.plusMinutes(1));
+        
+        // Then
+        assertTrue(first);
+        assertFalse(second);
+        List<RevokedToken> rows = revokedTokenRepository.findAll();
+        assertEquals(1, rows.size());
+        assertEquals(expiresAt, rows.get(0).getExpiresAt());
+    }
+}
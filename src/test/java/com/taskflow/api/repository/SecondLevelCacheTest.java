@@ -0,0 +1,205 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.projection.AssigneeRow;
+import com.taskflow.api.repository.projection.TaskRow;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Chaque étape dans sa propre transaction validée : le cache de second niveau n'est alimenté
+ * et invalidé qu'au commit.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private TransactionTemplate transaction;
+    private List<User> users;
+    
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+        users = transaction.execute(status -> {
+            List<User> saved = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                saved.add(userRepository.save(user("cached" + i)));
+            }
+            for (int i = 0; i < 20; i++) {
+                taskRepository.save(Task.builder()
+                    .title("Task " + (char) ('a' + i))
+                    .status(Task.Status.TODO)
+                    .priority(Task.Priority.MEDIUM)
+                    .creator(saved.get(i % 3))
+                    .assignedUsers(new HashSet<>(List.of(saved.get((i + 1) % 3))))
+                    .build());
+            }
+            return saved;
+        });
+    }
+    
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            taskRepository.deleteAll();
+            userRepository.deleteAll();
+        });
+        entityManagerFactory.getCache().evictAll();
+    }
+    
+    @Test
+    void listPage_ShouldResolveUsersFromCacheWithoutQueryingUsers() {
+        // Given
+        readPage(0);
+        Statistics statistics = statistics();
+        statistics.clear();
+        
+        // When
+        Map<Long, User> resolved = readPage(1);
+        
+        // Then
+        assertEquals(3, resolved.size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertTrue(statistics.getCacheRegionStatistics("users").getHitCount() > 0);
+        assertEquals(0, statistics.getCacheRegionStatistics("users").getMissCount());
+    }
+    
+    @Test
+    void register_ShouldPutNewUserInCacheAtCommit() {
+        // Given
+        Long id = transaction.execute(status -> userRepository.save(user("registered")).getId());
+        Statistics statistics = statistics();
+        statistics.clear();
+        
+        // When
+        Map<Long, User> resolved = transaction.execute(status -> userRepository.findCachedByIds(Set.of(id)));
+        
+        // Then
+        assertEquals("registered@example.com", resolved.get(id).getEmail());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+    
+    @Test
+    void assignees_ShouldBeReadFromDatabaseNotFromCache() {
+        // Given
+        Long taskId = transaction.execute(status -> taskRepository.findAllRows(PageRequest.of(0, 1)).getContent().get(0).id());
+        Set<Long> before = assigneeIds(taskId);
+        Long added = users.stream().map(User::getId).filter(id -> !before.contains(id)).findFirst().orElseThrow();
+        
+        // When : assignation faite par une autre instance, dont ce cache ne saurait rien
+        jdbcTemplate.update("INSERT INTO task_assignments (task_id, user_id) VALUES (?, ?)", taskId, added);
+        
+        // Then
+        assertEquals(before.size() + 1, assigneeIds(taskId).size());
+    }
+    
+    @Test
+    void bulkUpdate_ShouldEvictCachedUser() {
+        // Given
+        Long id = users.get(0).getId();
+        transaction.execute(status -> userRepository.findCachedByIds(Set.of(id)));
+        
+        // When
+        transaction.execute(status -> userRepository.incrementTokenVersion(id));
+        
+        // Then
+        User reloaded = transaction.execute(status -> userRepository.findById(id).orElseThrow());
+        assertEquals(1, reloaded.getTokenVersion());
+    }
+    
+    @Test
+    void findUncachedById_ShouldReadPastStaleEntryAndReplaceIt() {
+        // Given : une autre instance a modifié la ligne, ce cache garde l'ancienne valeur
+        Long id = users.get(0).getId();
+        transaction.execute(status -> userRepository.findCachedByIds(Set.of(id)));
+        jdbcTemplate.update("UPDATE users SET token_version = 7 WHERE id = ?", id);
+        User stale = transaction.execute(status -> userRepository.findById(id).orElseThrow());
+        
+        // When
+        User fresh = transaction.execute(status -> userRepository.findUncachedById(id).orElseThrow());
+        
+        // Then
+        assertEquals(0, stale.getTokenVersion());
+        assertEquals(7, fresh.getTokenVersion());
+        assertEquals(Integer.valueOf(7), transaction.execute(status -> userRepository.findTokenVersionById(id).orElseThrow()));
+        assertEquals(7, transaction.execute(status -> userRepository.findById(id).orElseThrow()).getTokenVersion());
+    }
+    
+    /**
+     * Même enchaînement que {@code TaskService} : lignes, total, assignations, puis utilisateurs.
+     */
+    private Map<Long, User> readPage(int page) {
+        return transaction.execute(status -> {
+            Page<TaskRow> rows = taskRepository.findAllRows(PageRequest.of(page, 5, Sort.by("title")));
+            List<AssigneeRow> assignees = taskRepository.findAssigneeRows(rows.map(TaskRow::id).getContent());
+            Set<Long> userIds = new HashSet<>();
+            rows.forEach(row -> userIds.add(row.creatorId()));
+            assignees.forEach(assignee -> userIds.add(assignee.userId()));
+            return userRepository.findCachedByIds(userIds);
+        });
+    }
+    
+    private Set<Long> assigneeIds(Long taskId) {
+        return transaction.execute(status -> {
+            Set<Long> ids = new HashSet<>();
+            taskRepository.findById(taskId).orElseThrow().getAssignedUsers().forEach(user -> ids.add(user.getId()));
+            return ids;
+        });
+    }
+    
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    private static User user(String name) {
+        return User.builder()
+            .email(name + "@example.com")
+            .username(name)
+            .password("password")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build();
+    }
+}
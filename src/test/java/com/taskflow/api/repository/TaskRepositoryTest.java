@@ -1,7 +1,15 @@
 package com.taskflow.api.repository;
 
+import com.taskflow.api.dto.TaskFilter;
 import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
 import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.projection.AssigneeRow;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import com.taskflow.api.repository.projection.TaskRow;
+import com.taskflow.api.repository.projection.TaskValidator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,10 +17,21 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
 class TaskRepositoryTest {
     
     @Autowired
@@ -21,6 +40,9 @@ class TaskRepositoryTest {
     @Autowired
     private TaskRepository taskRepository;
     
+    @Autowired
+    private TaskCounterRepository taskCounterRepository;
+    
     private User testUser;
     
     @BeforeEach
@@ -37,63 +59,352 @@ class TaskRepositoryTest {
     }
     
     @Test
-    void findByCreatorId_ShouldReturnTasks() {
+    void findByFilter_ShouldMatchSearchKeyword() {
         // Given
         Task task = Task.builder()
-            .title("Test Task")
-            .description("Test Description")
+            .title("Important Meeting")
+            .description("Discuss project timeline")
             .status(Task.Status.TODO)
-            .priority(Task.Priority.MEDIUM)
+            .priority(Task.Priority.HIGH)
             .creator(testUser)
             .build();
         entityManager.persist(task);
         entityManager.flush();
         
         // When
-        Page<Task> tasks = taskRepository.findByCreatorId(testUser.getId(), PageRequest.of(0, 10));
+        Page<TaskRow> tasks = taskRepository.findByFilter(
+            TaskFilter.builder().search("Meeting").build(), PageRequest.of(0, 10)
+        );
+        
+        // Then
+        assertEquals(1, tasks.getTotalElements());
+        assertEquals("Important Meeting", tasks.getContent().get(0).title());
+        assertEquals(testUser.getId(), tasks.getContent().get(0).creatorId());
+    }
+    
+    @Test
+    void findAllRows_ShouldReadPageWithoutLoadingEntities() {
+        // Given
+        List<User> users = persistTasksWithAssignees(30);
+        entityManager.clear();
+        Statistics statistics = statistics();
+        statistics.clear();
+        
+        // When
+        Page<TaskRow> page = taskRepository.findAllRows(PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "title")));
+        List<AssigneeRow> assignees = taskRepository.findAssigneeRows(page.map(TaskRow::id).getContent());
+        
+        // Then
+        assertEquals(30, page.getTotalElements());
+        assertEquals("Task 0", page.getContent().get(0).title());
+        assertEquals(users.get(0).getId(), page.getContent().get(0).creatorId());
+        assertEquals(20, assignees.size());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionFetchCount());
+    }
+    
+    @Test
+    void streamByFilter_ShouldCombineFilters() {
+        // Given
+        List<User> users = persistTasksWithAssignees(30);
+        entityManager.clear();
+        TaskFilter filter = TaskFilter.builder()
+            .creatorId(users.get(0).getId())
+            .assignedUserIds(List.of(users.get(1).getId()))
+            .build();
+        
+        // When
+        List<Task> tasks;
+        try (Stream<Task> stream = taskRepository.streamByFilter(filter, 10)) {
+            tasks = stream.toList();
+        }
+        Map<Long, List<User>> assignees = taskRepository.findAssignedUsersByTaskIds(
+            tasks.stream().map(Task::getId).toList()
+        );
+        
+        // Then
+        assertEquals(5, tasks.size());
+        tasks.forEach(task -> {
+            assertEquals(users.get(0).getId(), task.getCreator().getId());
+            assertTrue(assignees.get(task.getId()).stream()
+                .anyMatch(user -> user.getId().equals(users.get(1).getId())));
+        });
+    }
+    
+    @Test
+    void findByFilter_ShouldCombineCreatorAndAllAssignees() {
+        // Given
+        List<User> users = persistTasksWithAssignees(30);
+        TaskFilter filter = TaskFilter.builder()
+            .creatorId(users.get(0).getId())
+            .assignedUserIds(List.of(users.get(0).getId(), users.get(1).getId()))
+            .assigneeMatch(TaskFilter.AssigneeMatch.ALL)
+            .build();
+        
+        // When
+        Page<TaskRow> tasks = taskRepository.findByFilter(filter, PageRequest.of(0, 50));
+        Page<TaskRow> anyAssignee = taskRepository.findByFilter(TaskFilter.builder()
+            .assignedUserIds(List.of(users.get(1).getId(), users.get(2).getId()))
+            .build(), PageRequest.of(0, 50));
+        
+        // Then
+        assertEquals(5, tasks.getTotalElements());
+        tasks.forEach(task -> assertEquals(users.get(0).getId(), task.creatorId()));
+        assertEquals(30, anyAssignee.getTotalElements());
+    }
+    
+    @Test
+    void findByFilter_ShouldApplyDueDateRangeWithOtherFilters() {
+        // Given
+        LocalDateTime january = LocalDateTime.of(2030, 1, 1, 9, 0);
+        for (int day : new int[]{1, 15, 20, 40}) {
+            entityManager.persist(Task.builder()
+                .title("Échéance " + day)
+                .status(day == 20 ? Task.Status.DONE : Task.Status.TODO)
+                .priority(Task.Priority.HIGH)
+                .dueDate(january.plusDays(day - 1))
+                .creator(testUser)
+                .build());
+        }
+        entityManager.flush();
+        TaskFilter filter = TaskFilter.builder()
+            .status(Task.Status.TODO)
+            .priority(Task.Priority.HIGH)
+            .dueFrom(january.plusDays(9))
+            .dueTo(january.plusDays(30))
+            .build();
+        
+        // When
+        Page<TaskRow> tasks = taskRepository.findByFilter(filter, PageRequest.of(0, 10));
         
         // Then
         assertEquals(1, tasks.getTotalElements());
-        assertEquals("Test Task", tasks.getContent().get(0).getTitle());
+        assertEquals("Échéance 15", tasks.getContent().get(0).title());
+    }
+    
+    @Test
+    void findKeysetPage_ShouldApplyFilterOnEveryPage() {
+        // Given
+        List<User> users = persistTasksWithAssignees(30);
+        TaskFilter filter = TaskFilter.builder()
+            .creatorId(users.get(0).getId())
+            .assignedUserIds(List.of(users.get(1).getId()))
+            .build();
+        
+        // When
+        List<TaskRow> tasks = new ArrayList<>();
+        List<TaskRow> page = taskRepository.findKeysetPage(filter, "createdAt", Sort.Direction.DESC, null, null, 2, true);
+        while (!page.isEmpty()) {
+            tasks.addAll(page);
+            TaskRow last = page.get(page.size() - 1);
+            page = taskRepository.findKeysetPage(filter, "createdAt", Sort.Direction.DESC, last.createdAt(), last.id(), 2, true);
+        }
+        
+        // Then
+        assertEquals(5, tasks.size());
+        assertEquals(5, tasks.stream().map(TaskRow::id).distinct().count());
+        tasks.forEach(task -> assertEquals(users.get(0).getId(), task.creatorId()));
     }
     
     @Test
-    void findByStatus_ShouldReturnTasksWithStatus() {
+    void findByFilterAndKeysetPage_ShouldSkipDescriptionWhenNotRequested() {
+        // Given
+        entityManager.persist(Task.builder()
+            .title("Compte rendu")
+            .description("Une description longue")
+            .status(Task.Status.TODO)
+            .priority(Task.Priority.LOW)
+            .creator(testUser)
+            .build());
+        entityManager.flush();
+        
+        // When
+        Page<TaskRow> page = taskRepository.findByFilter(TaskFilter.builder().build(), PageRequest.of(0, 10), false);
+        List<TaskRow> keyset = taskRepository.findKeysetPage(
+            TaskFilter.builder().build(), "createdAt", Sort.Direction.DESC, null, null, 10, false);
+        Page<TaskRow> full = taskRepository.findByFilter(TaskFilter.builder().build(), PageRequest.of(0, 10), true);
+        
+        // Then
+        assertEquals("Compte rendu", page.getContent().get(0).title());
+        assertNull(page.getContent().get(0).description());
+        assertNull(keyset.get(0).description());
+        assertEquals("Une description longue", full.getContent().get(0).description());
+    }
+    
+    private List<User> persistTasksWithAssignees(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = User.builder()
+                .email("user" + i + "@example.com")
+                .username("user" + i)
+                .password("password")
+                .role(User.Role.USER)
+                .enabled(true)
+                .build();
+            users.add(entityManager.persist(user));
+        }
+        
+        for (int i = 0; i < count; i++) {
+            Task task = Task.builder()
+                .title("Task " + i)
+                .status(Task.Status.TODO)
+                .priority(Task.Priority.MEDIUM)
+                .creator(users.get(i % users.size()))
+                .assignedUsers(new HashSet<>(List.of(users.get(0), users.get(1 + i % 2))))
+                .build();
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        return users;
+    }
+    
+    @Test
+    void taskCounters_ShouldSumSlotsAndMatchRecount() {
+        // Given
+        User assignee = entityManager.persist(User.builder()
+            .email("assignee@example.com")
+            .username("assignee")
+            .password("password")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build());
+        Task done = Task.builder()
+            .title("Terminée")
+            .status(Task.Status.DONE)
+            .priority(Task.Priority.HIGH)
+            .creator(testUser)
+            .assignedUsers(new HashSet<>(List.of(assignee)))
+            .build();
+        Task todo = Task.builder()
+            .title("À faire")
+            .status(Task.Status.TODO)
+            .priority(Task.Priority.HIGH)
+            .creator(testUser)
+            .build();
+        entityManager.persist(done);
+        entityManager.persist(todo);
+        entityManager.flush();
+        
+        // When : chaque application peut viser une répartition différente
+        taskCounterRepository.apply(new TaskCounterDelta().add(done));
+        for (int i = 0; i < TaskCounter.SLOTS; i++) {
+            taskCounterRepository.apply(new TaskCounterDelta().add(todo));
+            taskCounterRepository.apply(new TaskCounterDelta().remove(todo));
+        }
+        taskCounterRepository.apply(new TaskCounterDelta().add(todo));
+        
+        // Then
+        List<TaskCountRow> all = taskCounterRepository.sumByScope(TaskCounter.Scope.ALL, TaskCounter.NO_USER);
+        assertEquals(2, all.stream().mapToLong(TaskCountRow::count).sum());
+        List<TaskCountRow> assigned = taskCounterRepository.sumByScope(
+            TaskCounter.Scope.ASSIGNEE, assignee.getId()
+        );
+        assertEquals(List.of(new TaskCountRow(Task.Status.DONE, Task.Priority.HIGH, 1L)), assigned);
+        assertEquals(
+            taskCounterRepository.countTasks(null).entries(),
+            taskCounterRepository.sumCounters().entries()
+        );
+        assertEquals(
+            new TaskCounterDelta().add(done).entries(),
+            taskCounterRepository.countTasks(List.of(done.getId())).entries()
+        );
+    }
+    
+    @Test
+    void findListFingerprint_ShouldFollowCountersAndLastUpdate() {
         // Given
         Task task = Task.builder()
-            .title("Test Task")
+            .title("Empreinte")
             .status(Task.Status.TODO)
-            .priority(Task.Priority.MEDIUM)
+            .priority(Task.Priority.LOW)
             .creator(testUser)
             .build();
         entityManager.persist(task);
         entityManager.flush();
+        String before = taskRepository.findListFingerprint();
         
         // When
-        Page<Task> tasks = taskRepository.findByStatus(Task.Status.TODO, PageRequest.of(0, 10));
+        taskCounterRepository.apply(new TaskCounterDelta().add(task));
+        String counted = taskRepository.findListFingerprint();
+        entityManager.getEntityManager().createQuery("UPDATE Task t SET t.updatedAt = :updatedAt")
+            .setParameter("updatedAt", LocalDateTime.of(2030, 1, 1, 0, 0))
+            .executeUpdate();
+        String updated = taskRepository.findListFingerprint();
         
         // Then
-        assertTrue(tasks.getTotalElements() > 0);
+        assertTrue(before.startsWith("0|"));
+        assertTrue(counted.startsWith("1|"));
+        assertTrue(updated.startsWith("1|2030-01-01T00:00|"));
     }
     
     @Test
-    void searchByKeyword_ShouldReturnMatchingTasks() {
+    void equals_ShouldKeepTransientTaskFindableAfterPersist() {
         // Given
+        Task task = Task.builder().title("Transiente").creator(testUser).build();
+        Task other = Task.builder().title("Transiente").creator(testUser).build();
+        Set<Task> tasks = new HashSet<>(Set.of(task));
+        
+        // When
+        entityManager.persist(task);
+        entityManager.flush();
+        entityManager.clear();
+        Task reloaded = taskRepository.getReferenceById(task.getId());
+        
+        // Then
+        assertNotEquals(task, other);
+        assertTrue(tasks.contains(task));
+        assertEquals(task, reloaded);
+        assertEquals(reloaded, task);
+        assertEquals(task.hashCode(), reloaded.hashCode());
+    }
+    
+    @Test
+    void findValidatorById_ShouldFollowCreatorAndAssigneesLastUpdate() {
+        // Given
+        User assignee = User.builder()
+            .email("assignee@example.com")
+            .username("assignee")
+            .password("password")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build();
+        entityManager.persist(assignee);
         Task task = Task.builder()
-            .title("Important Meeting")
-            .description("Discuss project timeline")
+            .title("Validateur")
             .status(Task.Status.TODO)
-            .priority(Task.Priority.HIGH)
+            .priority(Task.Priority.LOW)
             .creator(testUser)
             .build();
         entityManager.persist(task);
         entityManager.flush();
+        LocalDateTime creatorUpdatedAt = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime assigneeUpdatedAt = LocalDateTime.of(2031, 1, 1, 0, 0);
+        entityManager.getEntityManager().createQuery("UPDATE User u SET u.updatedAt = :updatedAt WHERE u.id = :id")
+            .setParameter("updatedAt", creatorUpdatedAt)
+            .setParameter("id", testUser.getId())
+            .executeUpdate();
+        entityManager.getEntityManager().createQuery("UPDATE User u SET u.updatedAt = :updatedAt WHERE u.id = :id")
+            .setParameter("updatedAt", assigneeUpdatedAt)
+            .setParameter("id", assignee.getId())
+            .executeUpdate();
         
         // When
-        Page<Task> tasks = taskRepository.searchByKeyword("Meeting", PageRequest.of(0, 10));
+        TaskValidator unassigned = taskRepository.findValidatorById(task.getId()).orElseThrow();
+        task.setAssignedUsers(new HashSet<>(Set.of(assignee)));
+        entityManager.flush();
+        TaskValidator assigned = taskRepository.findValidatorById(task.getId()).orElseThrow();
         
         // Then
-        assertEquals(1, tasks.getTotalElements());
-        assertEquals("Important Meeting", tasks.getContent().get(0).getTitle());
+        assertEquals(creatorUpdatedAt, unassigned.usersUpdatedAt());
+        assertEquals(assigneeUpdatedAt, assigned.usersUpdatedAt());
+        assertEquals(task.getVersion(), assigned.version());
+        assertTrue(taskRepository.findValidatorById(-1L).isEmpty());
+    }
+    
+    private Statistics statistics() {
+        return entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
     }
 }
@@ -0,0 +1,158 @@
+package com.taskflow.api.repository;
+
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.repository.projection.TaskRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Construction des motifs de recherche et enchaînement plein texte / trigramme de
+ * {@link TaskRepositoryCustomImpl#findByFilter}. Les fonctions de recherche n'existent que sous PostgreSQL :
+ * le dialecte est forcé et les requêtes JPQL produites sont observées sur un EntityManager simulé.
+ */
+class TaskSearchTest {
+    
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final List<String> executed = new ArrayList<>();
+    private final TaskRepositoryCustomImpl repository = new TaskRepositoryCustomImpl();
+    private List<TaskRow> fullTextRows;
+    private List<TaskRow> trigramRows;
+    private List<Long> fullTextIds;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+        ReflectionTestUtils.setField(repository, "postgreSql", true);
+        fullTextRows = List.of();
+        trigramRows = List.of();
+        fullTextIds = List.of();
+        when(entityManager.createQuery(anyString(), eq(TaskRow.class))).thenAnswer(invocation -> {
+            String jpql = invocation.getArgument(0);
+            return query(jpql, jpql.contains("task_fts_match") ? fullTextRows : trigramRows);
+        });
+        when(entityManager.createQuery(anyString(), eq(Long.class))).thenAnswer(invocation -> {
+            String jpql = invocation.getArgument(0);
+            return query(jpql, jpql.contains("COUNT") ? List.of(0L) : fullTextIds);
+        });
+    }
+    
+    @Test
+    void toPrefixTsQuery_ShouldPrefixEachWordAndDropOperators() {
+        assertEquals("meet:* & the:* & c:* & team:*", TaskRepositoryCustomImpl.toPrefixTsQuery("Meet the C++ team!"));
+        assertEquals("a:* & b:* & c:*", TaskRepositoryCustomImpl.toPrefixTsQuery("a & b | !c"));
+        assertEquals("drop:* & tasks:*", TaskRepositoryCustomImpl.toPrefixTsQuery("'); DROP tasks:*"));
+        assertEquals("été:* & noël:*", TaskRepositoryCustomImpl.toPrefixTsQuery("Été  Noël"));
+        assertNull(TaskRepositoryCustomImpl.toPrefixTsQuery("--- %"));
+    }
+    
+    @Test
+    void toLikePattern_ShouldEscapeWildcardsAndEscapeCharacter() {
+        assertEquals("%rapport%", TaskRepositoryCustomImpl.toLikePattern("rapport"));
+        assertEquals("%100\\%\\_fait\\\\%", TaskRepositoryCustomImpl.toLikePattern("100%_fait\\"));
+    }
+    
+    @Test
+    void findByFilter_ShouldRankFullTextMatchesWithoutTrigram() {
+        // Given
+        fullTextRows = List.of(row(1L));
+        trigramRows = List.of(row(2L));
+        
+        // When
+        Page<TaskRow> page = repository.findByFilter(search("meeting"), PageRequest.of(0, 10));
+        
+        // Then
+        assertEquals(List.of(row(1L)), page.getContent());
+        assertEquals(1, executed.size());
+        assertTrue(executed.get(0).contains("ORDER BY task_fts_rank"));
+    }
+    
+    @Test
+    void findByFilter_ShouldFallBackToTrigramWithoutCountingEmptyFullTextPage() {
+        // Given
+        trigramRows = List.of(row(1L));
+        
+        // When
+        Page<TaskRow> page = repository.findByFilter(search("eting"), PageRequest.of(0, 10));
+        
+        // Then
+        assertEquals(List.of(row(1L)), page.getContent());
+        assertEquals(1, page.getTotalElements());
+        assertEquals(2, executed.size());
+        assertTrue(executed.get(0).contains("task_fts_match"));
+        assertTrue(executed.get(1).contains("task_trgm_match"));
+    }
+    
+    @Test
+    void findByFilter_ShouldProbeFullTextMatchesInsteadOfCountingBeyondFirstPage() {
+        // When
+        Page<TaskRow> beyond = repository.findByFilter(search("eting"), PageRequest.of(3, 10));
+        
+        // Then
+        assertTrue(beyond.getContent().isEmpty());
+        assertTrue(executed.get(1).startsWith("SELECT t.id") && executed.get(1).contains("task_fts_match"));
+        assertTrue(executed.get(2).contains("task_trgm_match"));
+        assertTrue(executed.stream().noneMatch(jpql -> jpql.contains("COUNT") && jpql.contains("task_fts_match")));
+    }
+    
+    @Test
+    void findByFilter_ShouldKeepFullTextPageBeyondFirstWhenThereAreMatches() {
+        // Given
+        fullTextIds = List.of(1L);
+        trigramRows = List.of(row(2L));
+        
+        // When
+        Page<TaskRow> beyond = repository.findByFilter(search("meeting"), PageRequest.of(3, 10));
+        
+        // Then
+        assertTrue(beyond.getContent().isEmpty());
+        assertTrue(executed.stream().noneMatch(jpql -> jpql.contains("task_trgm_match")));
+    }
+    
+    @Test
+    void findByFilter_ShouldNotFallBackToTrigramForShortSearch() {
+        // Given
+        trigramRows = List.of(row(1L));
+        
+        // When
+        Page<TaskRow> page = repository.findByFilter(search(" ab "), PageRequest.of(0, 10));
+        
+        // Then
+        assertTrue(page.getContent().isEmpty());
+        assertEquals(List.of(true), executed.stream().map(jpql -> jpql.contains("task_fts_match")).toList());
+    }
+    
+    private TypedQuery<?> query(String jpql, List<?> results) {
+        TypedQuery<?> query = mock(TypedQuery.class, RETURNS_SELF);
+        doAnswer(invocation -> {
+            executed.add(jpql);
+            return results;
+        }).when(query).getResultList();
+        doAnswer(invocation -> {
+            executed.add(jpql);
+            return results.get(0);
+        }).when(query).getSingleResult();
+        return query;
+    }
+    
+    private static TaskFilter search(String keyword) {
+        return TaskFilter.builder().search(keyword).build();
+    }
+    
+    private static TaskRow row(Long id) {
+        return new TaskRow(id, "Meeting", null, Task.Status.TODO, Task.Priority.LOW, null, null, null, 0L, 1L);
+    }
+}
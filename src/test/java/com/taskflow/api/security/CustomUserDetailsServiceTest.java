@@ -0,0 +1,114 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private UserDetailsCache userDetailsCache;
+    private CustomUserDetailsService userDetailsService;
+    private User testUser;
+    
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(5));
+        userDetailsService = new CustomUserDetailsService(userRepository, userDetailsCache);
+        testUser = User.builder()
+            .id(1L)
+            .email("test@example.com")
+            .username("testuser")
+            .password("encoded")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build();
+    }
+    
+    @Test
+    void loadUserByUsername_ShouldQueryDatabaseOnce() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        
+        // When
+        userDetailsService.loadUserByUsername("test@example.com");
+        UserDetails details = userDetailsService.loadUserByUsername("test@example.com");
+        
+        // Then
+        assertEquals("test@example.com", details.getUsername());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        assertEquals(1, userDetailsCache.savedLookups());
+    }
+    
+    @Test
+    void loadUserByUsername_ShouldReturnFreshCopy_WhenCredentialsErased() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        UserDetails first = userDetailsService.loadUserByUsername("test@example.com");
+        
+        // When
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername("test@example.com");
+        
+        // Then
+        assertEquals("encoded", second.getPassword());
+    }
+    
+    @Test
+    void evict_ShouldReloadDisabledUser() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        assertTrue(userDetailsService.loadUserByUsername("test@example.com").isEnabled());
+        
+        // When
+        testUser.setEnabled(false);
+        userDetailsCache.evict(testUser.getId(), null);
+        
+        // Then
+        assertFalse(userDetailsService.loadUserByUsername("test@example.com").isEnabled());
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+    }
+    
+    @Test
+    void loadUserByUsername_ShouldNotCache_WhenEvictedDuringLoad() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenAnswer(invocation -> {
+            userDetailsCache.evict(testUser.getId(), "test@example.com");
+            return Optional.of(testUser);
+        });
+        
+        // When
+        userDetailsService.loadUserByUsername("test@example.com");
+        userDetailsService.loadUserByUsername("test@example.com");
+        
+        // Then
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+        assertEquals(2, userDetailsCache.databaseLookups());
+    }
+    
+    @Test
+    void loadUserByUsername_ShouldThrow_WhenUserNotFound() {
+        // Given
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+        
+        // When & Then
+        assertThrows(UsernameNotFoundException.class,
+            () -> userDetailsService.loadUserByUsername("unknown@example.com"));
+    }
+}
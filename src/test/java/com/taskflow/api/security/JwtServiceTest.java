@@ -0,0 +1,94 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+    
+    private static final String SECRET =
+        "dGFza2Zsb3ctc2VjcmV0LWtleS1mb3ItcHJvZHVjdGlvbi11c2UtMjU2LWJpdHMtbWluaW11bQ==";
+    
+    private VerifiedTokenCache tokenCache;
+    private MeterRegistry meterRegistry;
+    private JwtService jwtService;
+    
+    @BeforeEach
+    void setUp() {
+        tokenCache = new VerifiedTokenCache(100, 3600000);
+        meterRegistry = new SimpleMeterRegistry();
+        jwtService = new JwtService(SECRET, 3600000, tokenCache, meterRegistry);
+    }
+    
+    @Test
+    void extractAllClaims_ShouldVerifySignatureOnlyOnce() {
+        // Given
+        String token = jwtService.generateToken("test@example.com");
+        
+        // When
+        Claims first = jwtService.extractAllClaims(token);
+        String username = jwtService.extractUsername(token);
+        boolean valid = jwtService.isTokenValid(token, "test@example.com");
+        
+        // Then
+        assertEquals("test@example.com", username);
+        assertTrue(valid);
+        assertSame(first, jwtService.extractAllClaims(token));
+        assertEquals(1, tokenCache.stats().missCount());
+        assertEquals(3, tokenCache.stats().hitCount());
+        assertEquals(1, meterRegistry.get("taskflow.jwt.verify").timer().count());
+    }
+    
+    @Test
+    void extractAllClaims_ShouldNotCacheInvalidToken() {
+        // Given
+        String token = jwtService.generateToken("test@example.com");
+        int index = token.length() - 5;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+        
+        // When & Then
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(tampered));
+        assertThrows(JwtException.class, () -> jwtService.extractAllClaims(tampered));
+        assertEquals(0, tokenCache.size());
+        assertEquals(2, meterRegistry.get("taskflow.jwt.verify").timer().count());
+    }
+    
+    @Test
+    void isTokenValid_ShouldRejectOtherUser() {
+        // Given
+        String token = jwtService.generateToken("test@example.com");
+        
+        // When & Then
+        assertFalse(jwtService.isTokenValid(token, "other@example.com"));
+    }
+    
+    @Test
+    void generateToken_ShouldCarryPrincipalClaims() {
+        // Given
+        AuthenticatedUser user = new AuthenticatedUser(7L, "admin@example.com", User.Role.ADMIN, 3);
+        
+        // When
+        AuthenticatedUser parsed = AuthenticatedUser.fromClaims(jwtService.extractAllClaims(jwtService.generateToken(user)));
+        
+        // Then
+        assertEquals(user, parsed);
+        assertEquals("admin@example.com", parsed.getName());
+        assertEquals("ROLE_ADMIN", parsed.authorities().get(0).getAuthority());
+    }
+    
+    @Test
+    void fromClaims_ShouldIgnoreTokenWithoutPrincipalClaims() {
+        // Given
+        String token = jwtService.generateToken("test@example.com");
+        
+        // When & Then
+        assertNull(AuthenticatedUser.fromClaims(jwtService.extractAllClaims(token)));
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+    
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(1, 1, meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+    
+    @Test
+    void submit_ShouldRejectImmediatelyWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = executor.submit(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        });
+        started.await();
+        CompletableFuture<String> queued = executor.submit(() -> "queued");
+        
+        // When & Then
+        assertThrows(ServiceUnavailableException.class, () -> executor.submit(() -> "rejected"));
+        assertEquals(1, meterRegistry.get("taskflow.password.hash.rejected").counter().count());
+        
+        release.countDown();
+        assertEquals("running", running.join());
+        assertEquals("queued", queued.join());
+    }
+    
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
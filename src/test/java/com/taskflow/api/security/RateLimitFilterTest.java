@@ -0,0 +1,96 @@
+package com.taskflow.api.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitFilterTest {
+    
+    private final AtomicLong now = new AtomicLong(0);
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RateLimitFilter(List.of(
+            new RateLimitFilter.Rule("auth", List.of("/api/auth/"), true, new RateLimiter(0.5, 1, 1000, now::get)),
+            new RateLimitFilter.Rule("api", List.of("/api/"), false, new RateLimiter(1, 1, 1000, now::get))
+        ), new ObjectMapper().registerModule(new JavaTimeModule()), meterRegistry);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+    
+    @Test
+    void doFilter_ShouldRejectWithRetryAfterOnceBucketIsEmpty() throws Exception {
+        // Given
+        filter.doFilter(request("/api/auth/login", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        
+        // When
+        filter.doFilter(request("/api/auth/login", "10.0.0.1"), response, chain);
+        
+        // Then
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertNull(chain.getRequest());
+        assertTrue(response.getContentAsString().contains("Trop de requêtes"));
+        assertEquals(1, meterRegistry.get("taskflow.ratelimit.rejected").tag("rule", "auth").counter().count());
+    }
+    
+    @Test
+    void doFilter_ShouldKeyAuthenticatedRoutesByPrincipal() throws Exception {
+        // Given
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("alice@example.com", null, List.of()));
+        filter.doFilter(request("/api/tasks", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        
+        // When
+        MockHttpServletResponse sameUserOtherIp = new MockHttpServletResponse();
+        filter.doFilter(request("/api/tasks", "10.0.0.2"), sameUserOtherIp, new MockFilterChain());
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken("bob@example.com", null, List.of()));
+        MockHttpServletResponse otherUserSameIp = new MockHttpServletResponse();
+        filter.doFilter(request("/api/tasks", "10.0.0.1"), otherUserSameIp, new MockFilterChain());
+        
+        // Then
+        assertEquals(429, sameUserOtherIp.getStatus());
+        assertEquals(200, otherUserSameIp.getStatus());
+    }
+    
+    @Test
+    void doFilter_ShouldLeaveUnmatchedPathsAlone() throws Exception {
+        // Given
+        filter.doFilter(request("/actuator/health", "10.0.0.1"), new MockHttpServletResponse(), new MockFilterChain());
+        MockFilterChain chain = new MockFilterChain();
+        
+        // When
+        filter.doFilter(request("/actuator/health", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        
+        // Then
+        assertNotNull(chain.getRequest());
+    }
+    
+    private static MockHttpServletRequest request(String path, String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskflow.api.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+    
+    private final AtomicLong now = new AtomicLong(0);
+    private final RateLimiter rateLimiter = new RateLimiter(2, 3, 1000, now::get);
+    
+    @Test
+    void tryAcquire_ShouldAdmitBurstThenAskToWaitOneInterval() {
+        // When
+        long first = rateLimiter.tryAcquire("a");
+        long second = rateLimiter.tryAcquire("a");
+        long third = rateLimiter.tryAcquire("a");
+        long fourth = rateLimiter.tryAcquire("a");
+        
+        // Then
+        assertEquals(0, first);
+        assertEquals(0, second);
+        assertEquals(0, third);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), fourth);
+    }
+    
+    @Test
+    void tryAcquire_ShouldRefillAtConfiguredRate() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("a");
+        }
+        
+        // When
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        long afterOneInterval = rateLimiter.tryAcquire("a");
+        long immediatelyAfter = rateLimiter.tryAcquire("a");
+        
+        // Then
+        assertEquals(0, afterOneInterval);
+        assertTrue(immediatelyAfter > 0);
+    }
+    
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("a");
+        }
+        
+        // When & Then
+        assertTrue(rateLimiter.tryAcquire("a") > 0);
+        assertEquals(0, rateLimiter.tryAcquire("b"));
+    }
+}
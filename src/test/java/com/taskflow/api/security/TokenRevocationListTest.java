@@ -0,0 +1,148 @@
+package com.taskflow.api.security;
+
+import com.taskflow.api.entity.RevokedToken;
+import com.taskflow.api.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationListTest {
+    
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    private TokenRevocationList revocationList;
+    
+    @BeforeEach
+    void setUp() {
+        revocationList = new TokenRevocationList(
+            revokedTokenRepository, new SimpleMeterRegistry(), 1000, 0.01, Duration.ofHours(1), Duration.ofSeconds(10), Duration.ofHours(1));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        revocationList.destroy();
+    }
+    
+    @Test
+    void revoke_ShouldPersistAndTakeEffectImmediately() {
+        // Given
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(15);
+        
+        // When
+        revocationList.revoke("jti-1", expiresAt);
+        
+        // Then
+        assertTrue(revocationList.isRevoked("jti-1"));
+        assertFalse(revocationList.isRevoked("jti-2"));
+        assertFalse(revocationList.isRevoked(null));
+        verify(revokedTokenRepository).insertIfAbsent(eq("jti-1"), eq(expiresAt), any());
+    }
+    
+    @Test
+    void revoke_ShouldTakeEffectWhenAnotherRequestAlreadyPersistedIt() {
+        // Given
+        when(revokedTokenRepository.insertIfAbsent(eq("jti-1"), any(), any())).thenReturn(false);
+        
+        // When
+        revocationList.revoke("jti-1", LocalDateTime.now().plusMinutes(15));
+        
+        // Then
+        assertTrue(revocationList.isRevoked("jti-1"));
+    }
+    
+    @Test
+    void refresh_ShouldPickUpRevocationsFromOtherInstancesWithOverlap() {
+        // Given
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+            .thenReturn(List.of())
+            .thenReturn(List.of(row("user:1:0", 15)));
+        revocationList.load();
+        LocalDateTime afterLoad = LocalDateTime.now();
+        
+        // When
+        revocationList.refresh();
+        
+        // Then
+        assertTrue(revocationList.isRevoked(TokenRevocationList.sessionKey(1L, 0)));
+        assertFalse(revocationList.isRevoked(TokenRevocationList.sessionKey(1L, 1)));
+        verify(revokedTokenRepository, times(2)).findByRevokedAtGreaterThanEqualAndExpiresAtAfter(
+            argThat(since -> since.isBefore(afterLoad.minusSeconds(9))), any());
+    }
+    
+    @Test
+    void poll_ShouldRunOnItsOwnThreadAndSurviveFailures() {
+        // Given
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+            .thenThrow(new IllegalStateException("base indisponible"))
+            .thenReturn(List.of(row("jti-2", 15)));
+        revocationList.destroy();
+        
+        // When
+        revocationList = new TokenRevocationList(
+            revokedTokenRepository, new SimpleMeterRegistry(), 1000, 0.01, Duration.ofMillis(20), Duration.ofSeconds(10), Duration.ofHours(1));
+        
+        // Then
+        verify(revokedTokenRepository, timeout(2000).atLeast(2)).findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any());
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!revocationList.isRevoked("jti-2") && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertTrue(revocationList.isRevoked("jti-2"));
+    }
+    
+    @Test
+    void purge_ShouldDropExpiredEntries() {
+        // Given
+        when(revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+            .thenReturn(List.of(row("expired", -1), row("live", 15)));
+        revocationList.load();
+        
+        // When
+        revocationList.purge();
+        
+        // Then
+        verify(revokedTokenRepository).deleteExpired(any());
+        assertEquals(1, revocationList.size());
+        assertFalse(revocationList.isRevoked("expired"));
+        assertTrue(revocationList.isRevoked("live"));
+    }
+    
+    @Test
+    void isRevoked_ShouldKeepFalsePositivesNearConfiguredRate() {
+        // Given
+        for (int i = 0; i < 1000; i++) {
+            revocationList.revoke("revoked-" + i, LocalDateTime.now().plusMinutes(15));
+        }
+        
+        // When
+        for (int i = 0; i < 100_000; i++) {
+            assertFalse(revocationList.isRevoked("valid-" + i));
+        }
+        
+        // Then
+        assertTrue(revocationList.expectedFalsePositiveRate() <= 0.011);
+        assertTrue(revocationList.observedFalsePositiveRate() < 0.02);
+    }
+    
+    private static RevokedToken row(String tokenId, int expiresInMinutes) {
+        return RevokedToken.builder()
+            .tokenId(tokenId)
+            .expiresAt(LocalDateTime.now().plusMinutes(expiresInMinutes))
+            .revokedAt(LocalDateTime.now())
+            .build();
+    }
+}
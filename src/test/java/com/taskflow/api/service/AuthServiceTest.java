@@ -0,0 +1,223 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.AuthResponse;
+import com.taskflow.api.dto.LoginRequest;
+import com.taskflow.api.dto.RefreshRequest;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.security.AuthenticatedUser;
+import com.taskflow.api.security.JwtService;
+import com.taskflow.api.security.PasswordHashingExecutor;
+import com.taskflow.api.security.TokenRevocationList;
+import com.taskflow.api.security.UserDetailsCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthServiceTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private JwtService jwtService;
+    
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    
+    @Mock
+    private RefreshTokenService refreshTokenService;
+    
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+    
+    private PasswordEncoder passwordEncoder;
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private AuthService authService;
+    
+    @BeforeEach
+    void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        passwordEncoder = delegating;
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 4, new SimpleMeterRegistry());
+        authService = new AuthService(
+            userRepository, passwordEncoder, jwtService, passwordHashingExecutor, userDetailsCache, refreshTokenService,
+            refreshTokenRepository, tokenRevocationList
+        );
+    }
+    
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.destroy();
+    }
+    
+    @Test
+    void login_ShouldLoadUserOnceAndUpgradeLegacyHash() {
+        // Given
+        String legacyHash = new BCryptPasswordEncoder(4).encode("secret");
+        User user = user(legacyHash);
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.updatePassword(eq(1L), eq(legacyHash), startsWith("{bcrypt}"))).thenReturn(1);
+        when(jwtService.generateToken(AuthenticatedUser.of(user))).thenReturn("token");
+        when(refreshTokenService.issue(user)).thenReturn("refresh");
+        
+        // When
+        AuthResponse response = authService.login(new LoginRequest("test@example.com", "secret")).join();
+        
+        // Then
+        assertEquals("token", response.getToken());
+        assertEquals("refresh", response.getRefreshToken());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        verify(userDetailsCache).evict(1L, "test@example.com");
+    }
+    
+    @Test
+    void login_ShouldKeepCurrentEncoding() {
+        // Given
+        User user = user(passwordEncoder.encode("secret"));
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(jwtService.generateToken(AuthenticatedUser.of(user))).thenReturn("token");
+        
+        // When
+        authService.login(new LoginRequest("test@example.com", "secret")).join();
+        
+        // Then
+        verify(userRepository, never()).updatePassword(any(), any(), any());
+    }
+    
+    @Test
+    void login_ShouldRejectWrongPasswordAndUnknownEmail() {
+        // Given
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user(passwordEncoder.encode("secret"))));
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+        
+        // When
+        CompletionException wrongPassword = assertThrows(CompletionException.class,
+            () -> authService.login(new LoginRequest("test@example.com", "wrong")).join());
+        CompletionException unknownEmail = assertThrows(CompletionException.class,
+            () -> authService.login(new LoginRequest("unknown@example.com", "secret")).join());
+        
+        // Then
+        assertInstanceOf(BadCredentialsException.class, wrongPassword.getCause());
+        assertInstanceOf(BadCredentialsException.class, unknownEmail.getCause());
+        verify(userRepository, never()).updatePassword(any(), any(), any());
+        verifyNoInteractions(jwtService, refreshTokenService);
+    }
+    
+    @Test
+    void refresh_ShouldIssueNewTokensForConsumedRefreshToken() {
+        // Given
+        User user = user(passwordEncoder.encode("secret"));
+        when(refreshTokenService.consume("old")).thenReturn(user);
+        when(refreshTokenService.issue(user)).thenReturn("new");
+        when(jwtService.generateToken(AuthenticatedUser.of(user))).thenReturn("token");
+        when(jwtService.getExpirationMillis()).thenReturn(900000L);
+        
+        // When
+        AuthResponse response = authService.refresh(new RefreshRequest("old"));
+        
+        // Then
+        assertEquals("token", response.getToken());
+        assertEquals("new", response.getRefreshToken());
+        assertEquals(900L, response.getExpiresIn());
+        verifyNoInteractions(userRepository);
+    }
+    
+    @Test
+    void logout_ShouldRevokeRefreshTokenAndAccessTokenUntilItExpires() {
+        // Given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        Claims claims = Jwts.claims().id("jti-1").expiration(expiration).build();
+        when(jwtService.extractAllClaims("access")).thenReturn(claims);
+        
+        // When
+        authService.logout(new RefreshRequest("refresh"), "Bearer access");
+        
+        // Then
+        verify(refreshTokenService).revoke("refresh");
+        verify(tokenRevocationList).revoke(eq("jti-1"), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void logout_ShouldIgnoreExpiredAccessTokenAndRequireAToken() {
+        // Given
+        when(jwtService.extractAllClaims("expired")).thenThrow(new ExpiredJwtException(null, null, "expiré"));
+        
+        // When
+        authService.logout(null, "Bearer expired");
+        
+        // Then
+        verifyNoInteractions(tokenRevocationList, refreshTokenService);
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> authService.logout(null, null));
+        assertEquals("Aucun jeton à révoquer", exception.getMessage());
+    }
+    
+    @Test
+    void revokeSessions_ShouldBumpVersionAndRevokeSupersededSessionKey() {
+        // Given
+        when(userRepository.incrementTokenVersion(1L)).thenReturn(1);
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(4));
+        when(jwtService.getExpirationMillis()).thenReturn(900000L);
+        LocalDateTime before = LocalDateTime.now();
+        
+        // When
+        authService.revokeSessions(1L);
+        
+        // Then
+        verify(userRepository).incrementTokenVersion(1L);
+        verify(refreshTokenRepository).revokeAllByUserId(1L);
+        verify(tokenRevocationList).revoke(eq("user:1:3"), argThat(expiresAt -> !expiresAt.isBefore(before.plusMinutes(15))));
+        verify(userRepository, never()).findById(any());
+    }
+    
+    @Test
+    void revokeSessions_ShouldRejectUnknownUser() {
+        // Given
+        when(userRepository.incrementTokenVersion(1L)).thenReturn(0);
+        
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> authService.revokeSessions(1L));
+        assertEquals("Utilisateur introuvable", exception.getMessage());
+        verifyNoInteractions(tokenRevocationList, refreshTokenRepository);
+    }
+    
+    private static User user(String encodedPassword) {
+        return User.builder()
+            .id(1L)
+            .email("test@example.com")
+            .username("testuser")
+            .password(encodedPassword)
+            .role(User.Role.USER)
+            .enabled(true)
+            .tokenVersion(0)
+            .build();
+    }
+}
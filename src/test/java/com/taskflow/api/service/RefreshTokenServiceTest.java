@@ -0,0 +1,101 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.entity.RefreshToken;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.RefreshTokenRepository;
+import com.taskflow.api.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+    
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private RefreshTokenService refreshTokenService;
+    private User user;
+    
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, userRepository, Duration.ofDays(30));
+        user = User.builder().id(1L).email("test@example.com").enabled(true).tokenVersion(2).build();
+    }
+    
+    @Test
+    void issue_ShouldStoreOnlyTokenHash() {
+        // When
+        String token = refreshTokenService.issue(user);
+        
+        // Then
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(64, saved.getValue().getTokenHash().length());
+        assertNotEquals(token, saved.getValue().getTokenHash());
+        assertEquals(2, saved.getValue().getTokenVersion());
+    }
+    
+    @Test
+    void consume_ShouldRevokeTokenAndReturnUser() {
+        // Given
+        String token = issueAndCapture(2);
+        when(userRepository.findUncachedById(1L)).thenReturn(Optional.of(user));
+        
+        // When
+        User consumed = refreshTokenService.consume(token);
+        
+        // Then
+        assertEquals(user, consumed);
+        verify(refreshTokenRepository).revoke(10L);
+    }
+    
+    @Test
+    void consume_ShouldRejectTokenAlreadyConsumedConcurrently() {
+        // Given
+        String token = issueAndCapture(2);
+        when(refreshTokenRepository.revoke(10L)).thenReturn(0);
+        
+        // When & Then
+        assertThrows(BadCredentialsException.class, () -> refreshTokenService.consume(token));
+        verifyNoInteractions(userRepository);
+    }
+    
+    @Test
+    void consume_ShouldRejectTokenIssuedBeforeVersionBump() {
+        // Given
+        String token = issueAndCapture(1);
+        when(userRepository.findUncachedById(1L)).thenReturn(Optional.of(user));
+        
+        // When & Then
+        BadCredentialsException exception = assertThrows(BadCredentialsException.class,
+            () -> refreshTokenService.consume(token));
+        assertEquals("Jeton de rafraîchissement révoqué", exception.getMessage());
+    }
+    
+    private String issueAndCapture(int tokenVersion) {
+        String token = refreshTokenService.issue(user);
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        RefreshToken stored = saved.getValue();
+        stored.setId(10L);
+        stored.setTokenVersion(tokenVersion);
+        when(refreshTokenRepository.findByTokenHash(stored.getTokenHash())).thenReturn(Optional.of(stored));
+        lenient().when(refreshTokenRepository.revoke(10L)).thenReturn(1);
+        return token;
+    }
+}
@@ -0,0 +1,233 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.BatchItemResult;
+import com.taskflow.api.dto.BatchResponse;
+import com.taskflow.api.dto.TaskBatchUpdateItem;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.dto.TaskRequest;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskCounterDelta;
+import com.taskflow.api.repository.TaskCounterRepository;
+import com.taskflow.api.repository.TaskRepository;
+import com.taskflow.api.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskBatchServiceTest {
+    
+    @Mock
+    private TaskRepository taskRepository;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+    
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    
+    @Spy
+    private TaskResponseCache taskResponseCache = new TaskResponseCache(100, Duration.ofMinutes(1));
+    
+    @Spy
+    private TaskMapper taskMapper = new TaskMapper();
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @InjectMocks
+    private TaskBatchService taskBatchService;
+    
+    private User testUser;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskBatchService, "maxBatchSize", 1000);
+        testUser = User.builder()
+            .id(1L)
+            .email("test@example.com")
+            .username("testuser")
+            .password("password")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build();
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTasks_ShouldReportInvalidItemsAndSaveOthersInOneBatch() {
+        // Given
+        List<TaskRequest> requests = List.of(
+            TaskRequest.builder().title("First").assignedUserIds(Set.of(1L)).build(),
+            TaskRequest.builder().title("").build(),
+            TaskRequest.builder().title("Third").status("UNKNOWN").build(),
+            TaskRequest.builder().title("Fourth").assignedUserIds(Set.of(42L)).build(),
+            TaskRequest.builder().title("Fifth").build()
+        );
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(testUser));
+        when(taskRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            long id = 100;
+            for (Task task : tasks) {
+                task.setId(id++);
+            }
+            return tasks;
+        });
+        
+        // When
+        BatchResponse response = taskBatchService.createTasks(requests, "test@example.com");
+        
+        // Then
+        assertEquals(2, response.getSucceeded());
+        assertEquals(3, response.getFailed());
+        assertEquals(BatchItemResult.Status.CREATED, response.getResults().get(0).getStatus());
+        assertEquals(100L, response.getResults().get(0).getId());
+        assertEquals(BatchItemResult.Status.FAILED, response.getResults().get(1).getStatus());
+        assertEquals(BatchItemResult.Status.FAILED, response.getResults().get(2).getStatus());
+        assertEquals(BatchItemResult.Status.FAILED, response.getResults().get(3).getStatus());
+        assertEquals(101L, response.getResults().get(4).getId());
+        
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository, times(1)).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        verify(userRepository, times(1)).findAllById(anyCollection());
+        
+        ArgumentCaptor<TaskEvent> events = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(100L, 101L), events.getAllValues().stream().map(TaskEvent::getTaskId).toList());
+        assertTrue(events.getAllValues().stream().allMatch(event -> event.getType() == TaskEvent.Type.CREATED));
+        assertEquals("First", events.getAllValues().get(0).getTask().getTitle());
+        assertEquals(Set.of(1L), events.getAllValues().get(0).getAssigneeIds());
+    }
+    
+    @Test
+    void updateTasks_ShouldFailUnknownTasks() {
+        // Given
+        Task task = Task.builder()
+            .id(1L)
+            .title("Old")
+            .creator(testUser)
+            .assignedUsers(new HashSet<>())
+            .build();
+        when(taskRepository.findAllWithAssignedUsers(anyCollection())).thenReturn(List.of(task));
+        List<TaskBatchUpdateItem> items = List.of(
+            TaskBatchUpdateItem.builder().id(1L).task(TaskRequest.builder().title("New").build()).build(),
+            TaskBatchUpdateItem.builder().id(2L).task(TaskRequest.builder().title("Missing").build()).build()
+        );
+        
+        // When
+        BatchResponse response = taskBatchService.updateTasks(items);
+        
+        // Then
+        assertEquals(1, response.getSucceeded());
+        assertEquals("New", task.getTitle());
+        assertEquals(BatchItemResult.Status.FAILED, response.getResults().get(1).getStatus());
+        verify(taskRepository, times(1)).flush();
+        
+        ArgumentCaptor<TaskEvent> event = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(event.capture());
+        assertEquals(TaskEvent.Type.UPDATED, event.getValue().getType());
+        assertEquals("New", event.getValue().getTask().getTitle());
+    }
+    
+    @Test
+    void updateTasks_ShouldTouchUpdatedAtWhenOnlyAssigneesChange() {
+        // Given
+        LocalDateTime lastUpdate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Task reassigned = Task.builder().id(1L).title("Same").creator(testUser)
+            .assignedUsers(new HashSet<>()).updatedAt(lastUpdate).build();
+        Task unchanged = Task.builder().id(2L).title("Same").creator(testUser)
+            .assignedUsers(new HashSet<>(Set.of(testUser))).updatedAt(lastUpdate).build();
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(testUser));
+        when(taskRepository.findAllWithAssignedUsers(anyCollection())).thenReturn(List.of(reassigned, unchanged));
+        TaskRequest request = TaskRequest.builder().title("Same").assignedUserIds(Set.of(1L)).build();
+        List<TaskBatchUpdateItem> items = List.of(
+            TaskBatchUpdateItem.builder().id(1L).task(request).build(),
+            TaskBatchUpdateItem.builder().id(2L).task(request).build()
+        );
+        
+        // When
+        BatchResponse response = taskBatchService.updateTasks(items);
+        
+        // Then
+        assertEquals(2, response.getSucceeded());
+        assertTrue(reassigned.getUpdatedAt().isAfter(lastUpdate));
+        assertEquals(lastUpdate, unchanged.getUpdatedAt());
+    }
+    
+    @Test
+    void updateTasks_ShouldNotifyUnassignedUsers() {
+        // Given
+        Task task = Task.builder().id(1L).title("Old").creator(testUser)
+            .assignedUsers(new HashSet<>(Set.of(testUser))).build();
+        when(taskRepository.findAllWithAssignedUsers(anyCollection())).thenReturn(List.of(task));
+        TaskRequest request = TaskRequest.builder().title("Old").assignedUserIds(Set.of()).build();
+        
+        // When
+        taskBatchService.updateTasks(List.of(TaskBatchUpdateItem.builder().id(1L).task(request).build()));
+        
+        // Then
+        ArgumentCaptor<TaskEvent> event = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().getTask().getAssignedUsers().isEmpty());
+        assertEquals(Set.of(1L), event.getValue().getAssigneeIds());
+    }
+    
+    @Test
+    void deleteTasks_ShouldDeleteExistingTasksInOneStatement() {
+        // Given
+        Task first = Task.builder().id(1L).title("First").creator(testUser)
+            .assignedUsers(new HashSet<>(Set.of(testUser))).version(3L).build();
+        Task second = Task.builder().id(2L).title("Second").creator(testUser).assignedUsers(new HashSet<>()).build();
+        when(taskRepository.findAllWithAssignedUsers(anyCollection())).thenReturn(List.of(first, second));
+        TaskCounterDelta counted = new TaskCounterDelta();
+        counted.add(Task.Status.TODO, Task.Priority.MEDIUM, 1L, Set.of(), 2);
+        when(taskCounterRepository.countTasks(Set.of(1L, 2L))).thenReturn(counted);
+        ArgumentCaptor<TaskCounterDelta> applied = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        
+        // When
+        BatchResponse response = taskBatchService.deleteTasks(List.of(1L, 2L, 3L));
+        
+        // Then
+        assertEquals(2, response.getSucceeded());
+        assertEquals(1, response.getFailed());
+        verify(taskRepository, times(1)).deleteAllByIdInBatch(Set.of(1L, 2L));
+        verify(taskCounterRepository).apply(applied.capture());
+        assertTrue(applied.getValue().entries().values().stream().allMatch(count -> count == -2L));
+        
+        ArgumentCaptor<TaskEvent> events = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        TaskEvent deleted = events.getAllValues().stream()
+            .filter(event -> event.getTaskId().equals(1L))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(TaskEvent.Type.DELETED, deleted.getType());
+        assertNull(deleted.getTask());
+        assertEquals(3L, deleted.getVersion());
+        assertEquals(1L, deleted.getCreatorId());
+        assertEquals(Set.of(1L), deleted.getAssigneeIds());
+    }
+}
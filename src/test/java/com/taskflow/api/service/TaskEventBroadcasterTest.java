@@ -0,0 +1,181 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskEventBroadcasterTest {
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventBroadcaster broadcaster;
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new TaskEventBroadcaster(
+            userRepository, new ObjectMapper().findAndRegisterModules(), meterRegistry,
+            2, 10, Duration.ofMinutes(1), Duration.ofHours(1)
+        ) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+    
+    @AfterEach
+    void tearDown() {
+        emitters.forEach(emitter -> emitter.release.countDown());
+        broadcaster.destroy();
+    }
+    
+    @Test
+    void publish_ShouldOnlyDeliverEventsMatchingSubscriberFilters() throws Exception {
+        // Given
+        when(userRepository.findByEmail("me@example.com")).thenReturn(Optional.of(User.builder().id(2L).build()));
+        broadcaster.subscribe("me@example.com", true, null);
+        broadcaster.subscribe("other@example.com", false, 9L);
+        RecordingEmitter assignedToMe = emitters.get(0);
+        RecordingEmitter byCreator = emitters.get(1);
+        assignedToMe.release.countDown();
+        byCreator.release.countDown();
+        
+        // When
+        broadcaster.publish(event(TaskEvent.Type.UNASSIGNED, 1L, Set.of(2L)));
+        broadcaster.publish(event(TaskEvent.Type.CREATED, 9L, Set.of()));
+        
+        // Then : une trame de connexion puis les seuls événements filtrés
+        assertTrue(assignedToMe.awaitSends(2));
+        assertTrue(byCreator.awaitSends(2));
+        assertTrue(assignedToMe.sent.get(1).contains("event:unassigned"));
+        assertTrue(byCreator.sent.get(1).contains("event:created"));
+        assertFalse(byCreator.sent.get(1).contains("assigneeIds"));
+        Thread.sleep(100);
+        assertEquals(2, assignedToMe.sent.size());
+        assertEquals(2, byCreator.sent.size());
+    }
+    
+    @Test
+    void publish_ShouldDeliverImportedBatchesToEverySubscriber() throws Exception {
+        // Given
+        when(userRepository.findByEmail("me@example.com")).thenReturn(Optional.of(User.builder().id(2L).build()));
+        broadcaster.subscribe("me@example.com", true, null);
+        broadcaster.subscribe("other@example.com", false, 9L);
+        emitters.forEach(emitter -> emitter.release.countDown());
+        
+        // When
+        broadcaster.publish(TaskEvent.builder().type(TaskEvent.Type.IMPORTED).count(5000).build());
+        
+        // Then
+        for (RecordingEmitter emitter : emitters) {
+            assertTrue(emitter.awaitSends(2));
+            assertTrue(emitter.sent.get(1).contains("event:imported"));
+            assertTrue(emitter.sent.get(1).contains("\"count\":5000"));
+        }
+    }
+    
+    @Test
+    void publish_ShouldDropSubscriberWhoseBufferOverflows() throws Exception {
+        // Given : l'écriture de la trame de connexion reste bloquée
+        broadcaster.subscribe("slow@example.com", false, null);
+        RecordingEmitter slow = emitters.get(0);
+        assertTrue(slow.sending.await(1, TimeUnit.SECONDS));
+        
+        // When
+        for (int i = 0; i < 3; i++) {
+            broadcaster.publish(event(TaskEvent.Type.UPDATED, 1L, Set.of()));
+        }
+        
+        // Then
+        assertTrue(slow.completed.await(1, TimeUnit.SECONDS));
+        assertEquals(0, broadcaster.subscriberCount());
+        assertEquals(1.0, meterRegistry.counter("taskflow.stream.dropped").count());
+    }
+    
+    @Test
+    void subscribe_ShouldRejectBeyondMaximumSubscribers() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            broadcaster.subscribe("user" + i + "@example.com", false, null);
+        }
+        
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> broadcaster.subscribe("late@example.com", false, null));
+        assertEquals("Nombre maximal d'abonnés au flux atteint sur cette instance", exception.getMessage());
+    }
+    
+    private static TaskEvent event(TaskEvent.Type type, Long creatorId, Set<Long> assigneeIds) {
+        return TaskEvent.builder()
+            .type(type)
+            .taskId(1L)
+            .creatorId(creatorId)
+            .assigneeIds(assigneeIds)
+            .build();
+    }
+    
+    /**
+     * Emitter sans connexion : mémorise le texte des trames, et bloque chaque envoi jusqu'à {@link #release}.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        
+        @Override
+        public void send(SseEventBuilder builder) {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(part -> text.append(part.getData()));
+            sent.add(text.toString());
+        }
+        
+        @Override
+        public void complete() {
+            completed.countDown();
+            super.complete();
+        }
+        
+        private boolean awaitSends(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return sent.size() >= count;
+        }
+    }
+}
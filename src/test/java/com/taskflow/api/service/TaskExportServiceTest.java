@@ -0,0 +1,106 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.User;
+import com.taskflow.api.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+    
+    @Mock
+    private TaskRepository taskRepository;
+    
+    @Mock
+    private EntityManager entityManager;
+    
+    private TaskExportService taskExportService;
+    private User testUser;
+    
+    @BeforeEach
+    void setUp() {
+        taskExportService = new TaskExportService(taskRepository, new TaskMapper(), new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(taskExportService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(taskExportService, "chunkSize", 2);
+        
+        testUser = User.builder()
+            .id(1L)
+            .email("test@example.com")
+            .username("testuser")
+            .role(User.Role.USER)
+            .enabled(true)
+            .build();
+    }
+    
+    @Test
+    void exportTasks_ShouldWriteCsvRowsChunkByChunk() throws Exception {
+        // Given
+        when(taskRepository.streamByFilter(any(TaskFilter.class), anyInt()))
+            .thenReturn(Stream.of(task(1L, "Simple"), task(2L, "Avec, virgule"), task(3L, "Dernière")));
+        when(taskRepository.findAssignedUsersByTaskIds(anyCollection()))
+            .thenReturn(Map.of(1L, List.of(testUser)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        taskExportService.exportTasks(new TaskFilter(), TaskExportService.Format.CSV, output);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[1].startsWith("1,Simple,"));
+        assertTrue(lines[1].contains(",1,test@example.com,1,"));
+        assertTrue(lines[2].startsWith("2,\"Avec, virgule\","));
+        verify(taskRepository, times(2)).findAssignedUsersByTaskIds(anyCollection());
+        verify(entityManager, times(2)).clear();
+    }
+    
+    @Test
+    void exportTasks_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        when(taskRepository.streamByFilter(any(TaskFilter.class), anyInt()))
+            .thenReturn(Stream.of(task(1L, "First"), task(2L, "Second")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // When
+        taskExportService.exportTasks(new TaskFilter(), TaskExportService.Format.NDJSON, output);
+        
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"title\":\"Second\""));
+    }
+    
+    private Task task(Long id, String title) {
+        return Task.builder()
+            .id(id)
+            .title(title)
+            .status(Task.Status.TODO)
+            .priority(Task.Priority.MEDIUM)
+            .creator(testUser)
+            .assignedUsers(new HashSet<>())
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+}
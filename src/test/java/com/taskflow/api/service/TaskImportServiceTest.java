@@ -0,0 +1,164 @@
+package com.taskflow.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.api.dto.BatchItemResult;
+import com.taskflow.api.dto.ImportReport;
+import com.taskflow.api.dto.TaskEvent;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.repository.TaskCopyWriter;
+import com.taskflow.api.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceTest {
+    
+    @Mock
+    private TaskCopyWriter taskCopyWriter;
+    
+    @Mock
+    private UserRepository userRepository;
+    
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+    
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    
+    @Mock
+    private TaskEventBroadcaster taskEventBroadcaster;
+    
+    @InjectMocks
+    private TaskImportService taskImportService;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(taskImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(taskImportService, "maxReportedErrors", 1000);
+    }
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTasks_ShouldCopyValidCsvRowsAndReportInvalidOnes() throws Exception {
+        // Given
+        String csv = """
+            title,description,status,priority,dueDate,creatorEmail,assigneeEmails
+            Première,"Ligne 1
+            Ligne 2, avec \"\"guillemets\"\"",TODO,HIGH,2030-01-15T10:00:00,test@example.com,test@example.com
+            Créateur inconnu,,TODO,,,unknown@example.com,
+            ,Sans titre,TODO,,,test@example.com,
+            Statut invalide,,UNKNOWN,,,test@example.com,
+            Dernière,,DONE,LOW,,test@example.com,
+            """;
+        when(userRepository.findIdsByEmailIn(anyCollection()))
+            .thenReturn(Collections.singletonList(new Object[]{"test@example.com", 1L}));
+        
+        // When
+        ImportReport report = taskImportService.importTasks(stream(csv), TaskExportService.Format.CSV);
+        
+        // Then
+        assertEquals(5, report.getTotalRows());
+        assertEquals(2, report.getImported());
+        assertEquals(3, report.getFailed());
+        assertEquals(List.of(1, 2, 3), report.getErrors().stream().map(BatchItemResult::getIndex).toList());
+        assertEquals("Créateur introuvable : unknown@example.com", report.getErrors().get(0).getError());
+        assertEquals("Le titre est requis", report.getErrors().get(1).getError());
+        assertEquals("Statut ou priorité invalide", report.getErrors().get(2).getError());
+        
+        ArgumentCaptor<List<TaskCopyWriter.Row>> rows = ArgumentCaptor.forClass(List.class);
+        verify(taskCopyWriter, times(2)).write(rows.capture());
+        TaskCopyWriter.Row first = rows.getAllValues().get(0).get(0);
+        assertEquals("Ligne 1\nLigne 2, avec \"guillemets\"", first.description());
+        assertEquals(Task.Priority.HIGH, first.priority());
+        assertEquals(Set.of(1L), first.assigneeIds());
+        assertEquals(Task.Status.DONE, rows.getAllValues().get(1).get(0).status());
+        
+        // Les e-mails déjà résolus ne sont pas redemandés aux lots suivants
+        verify(userRepository, times(1)).findIdsByEmailIn(anyCollection());
+    }
+    
+    @Test
+    void importTasks_ShouldReportInvalidJsonLines() throws Exception {
+        // Given
+        String ndjson = """
+            {"title":"Tâche","creatorEmail":"test@example.com"}
+            {"title":
+            
+            {"title":"Assignée","creatorEmail":"test@example.com","assigneeEmails":["missing@example.com"]}
+            """;
+        when(userRepository.findIdsByEmailIn(anyCollection()))
+            .thenReturn(Collections.singletonList(new Object[]{"test@example.com", 1L}));
+        
+        // When
+        ImportReport report = taskImportService.importTasks(stream(ndjson), TaskExportService.Format.NDJSON);
+        
+        // Then
+        assertEquals(3, report.getTotalRows());
+        assertEquals(1, report.getImported());
+        assertEquals("Ligne JSON invalide", report.getErrors().get(0).getError());
+        assertEquals("Utilisateurs introuvables : [missing@example.com]", report.getErrors().get(1).getError());
+    }
+    
+    @Test
+    void importTasks_ShouldReportEveryRowOfAFailedChunk() throws Exception {
+        // Given
+        String ndjson = """
+            {"title":"A","creatorEmail":"test@example.com"}
+            {"title":"B","creatorEmail":"test@example.com"}
+            {"title":"C","creatorEmail":"test@example.com"}
+            """;
+        when(userRepository.findIdsByEmailIn(anyCollection()))
+            .thenReturn(Collections.singletonList(new Object[]{"test@example.com", 1L}));
+        when(taskCopyWriter.write(anyList()))
+            .thenThrow(new SQLException("violation"))
+            .thenReturn(List.of(3L));
+        
+        // When
+        ImportReport report = taskImportService.importTasks(stream(ndjson), TaskExportService.Format.NDJSON);
+        
+        // Then
+        assertEquals(1, report.getImported());
+        assertEquals(2, report.getFailed());
+        assertEquals(List.of(0, 1), report.getErrors().stream().map(BatchItemResult::getIndex).toList());
+        assertFalse(report.isErrorsTruncated());
+        
+        // Seul le lot écrit est signalé au flux
+        ArgumentCaptor<TaskEvent> event = ArgumentCaptor.forClass(TaskEvent.class);
+        verify(taskEventBroadcaster, times(1)).publish(event.capture());
+        assertEquals(TaskEvent.Type.IMPORTED, event.getValue().getType());
+        assertEquals(1, event.getValue().getCount());
+    }
+    
+    @Test
+    void importTasks_ShouldRejectUnknownCsvColumns() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> taskImportService.importTasks(stream("title,owner\nA,B\n"), TaskExportService.Format.CSV));
+        assertEquals("Colonne inconnue : owner", exception.getMessage());
+        verifyNoInteractions(taskCopyWriter);
+    }
+    
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
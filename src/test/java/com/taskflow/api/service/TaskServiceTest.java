@@ -1,24 +1,41 @@
 package com.taskflow.api.service;
 
+import com.taskflow.api.dto.CursorPage;
+import com.taskflow.api.dto.TaskFilter;
+import com.taskflow.api.dto.TaskEvent;
 import com.taskflow.api.dto.TaskRequest;
 import com.taskflow.api.dto.TaskResponse;
+import com.taskflow.api.dto.UserResponse;
 import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
 import com.taskflow.api.entity.User;
+import com.taskflow.api.exception.PreconditionFailedException;
+import com.taskflow.api.repository.TaskCounterDelta;
+import com.taskflow.api.repository.TaskCounterRepository;
 import com.taskflow.api.repository.TaskRepository;
 import com.taskflow.api.repository.UserRepository;
+import com.taskflow.api.repository.projection.AssigneeRow;
+import com.taskflow.api.repository.projection.TaskRow;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -34,6 +51,18 @@ class TaskServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Spy
+    private TaskMapper taskMapper = new TaskMapper();
+    
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Spy
+    private TaskResponseCache taskResponseCache = new TaskResponseCache(100, Duration.ofMinutes(1));
+    
     @InjectMocks
     private TaskService taskService;
     
@@ -42,6 +71,7 @@ class TaskServiceTest {
     
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(taskService, "maxPageSize", 100);
         testUser = User.builder()
             .id(1L)
             .email("test@example.com")
@@ -113,19 +143,49 @@ class TaskServiceTest {
     }
     
     @Test
-    void getAllTasks_ShouldReturnPageOfTasks() {
+    void getTaskById_ShouldServeRepeatedReadsFromCache() {
         // Given
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask));
-        when(taskRepository.findAll(pageable)).thenReturn(taskPage);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         
         // When
-        Page<TaskResponse> response = taskService.getAllTasks(pageable);
+        taskService.getTaskById(1L);
+        TaskResponse response = taskService.getTaskById(1L);
         
         // Then
-        assertNotNull(response);
-        assertEquals(1, response.getTotalElements());
-        assertEquals(testTask.getTitle(), response.getContent().get(0).getTitle());
+        assertEquals(testTask.getTitle(), response.getTitle());
+        verify(taskRepository, times(1)).findById(1L);
+        assertEquals(1, taskResponseCache.stats().hitCount());
+    }
+    
+    @Test
+    void updateTask_ShouldEvictCachedResponse() {
+        // Given
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        taskService.getTaskById(1L);
+        
+        // When
+        taskService.updateTask(1L, TaskRequest.builder().title("Renamed").build());
+        TaskResponse response = taskService.getTaskById(1L);
+        
+        // Then
+        assertEquals("Renamed", response.getTitle());
+    }
+    
+    @Test
+    void evictUser_ShouldDropResponsesEmbeddingTheUser() {
+        // Given
+        User assignee = User.builder().id(2L).email("a@example.com").username("a").role(User.Role.USER).enabled(true).build();
+        testTask.getAssignedUsers().add(assignee);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        taskService.getTaskById(1L);
+        
+        // When
+        taskResponseCache.evictUserAfterCommit(2L);
+        taskService.getTaskById(1L);
+        
+        // Then
+        verify(taskRepository, times(2)).findById(1L);
     }
     
     @Test
@@ -149,26 +209,39 @@ class TaskServiceTest {
         verify(taskRepository, times(1)).save(any(Task.class));
     }
     
+    @Test
+    void updateTask_ShouldRejectStaleVersion() {
+        // Given
+        testTask.setVersion(3L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        
+        // When & Then
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+            () -> taskService.updateTask(1L, TaskRequest.builder().title("Renamed").build(), 2L));
+        assertEquals("La tâche a été modifiée entre-temps", exception.getMessage());
+        verify(taskRepository, never()).save(any(Task.class));
+    }
+    
     @Test
     void deleteTask_ShouldDeleteTask() {
         // Given
-        when(taskRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
         
         // When
         taskService.deleteTask(1L);
         
         // Then
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).delete(testTask);
     }
     
     @Test
     void deleteTask_ShouldThrowException_WhenTaskNotFound() {
         // Given
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(RuntimeException.class, () -> taskService.deleteTask(999L));
+        verify(taskCounterRepository, never()).apply(any());
     }
     
     @Test
@@ -193,17 +266,249 @@ class TaskServiceTest {
     }
     
     @Test
-    void searchTasks_ShouldReturnMatchingTasks() {
+    void updateTask_ShouldMoveCountersToNewStatusAndPriority() {
+        // Given
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        ArgumentCaptor<TaskCounterDelta> delta = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        
+        // When
+        taskService.updateTask(1L, TaskRequest.builder().title("Test Task").status("DONE").priority("HIGH").build());
+        
+        // Then
+        verify(taskCounterRepository).apply(delta.capture());
+        Map<TaskCounterDelta.Key, Long> entries = delta.getValue().entries();
+        assertEquals(4, entries.size());
+        assertEquals(-1L, entries.get(new TaskCounterDelta.Key(
+            TaskCounter.Scope.ALL, TaskCounter.NO_USER, Task.Status.TODO, Task.Priority.MEDIUM)));
+        assertEquals(1L, entries.get(new TaskCounterDelta.Key(
+            TaskCounter.Scope.CREATOR, 1L, Task.Status.DONE, Task.Priority.HIGH)));
+    }
+    
+    @Test
+    void assignUserToTask_ShouldOnlyCountNewAssignee() {
+        // Given
+        User assignedUser = User.builder().id(2L).email("user2@example.com").username("user2").build();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignedUser));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        ArgumentCaptor<TaskCounterDelta> delta = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        
+        // When
+        taskService.assignUserToTask(1L, 2L);
+        
+        // Then
+        verify(taskCounterRepository).apply(delta.capture());
+        assertEquals(Map.of(new TaskCounterDelta.Key(
+            TaskCounter.Scope.ASSIGNEE, 2L, Task.Status.TODO, Task.Priority.MEDIUM), 1L), delta.getValue().entries());
+    }
+    
+    @Test
+    void assignUserToTask_ShouldTouchUpdatedAtOnlyWhenAssigneesChange() {
+        // Given
+        LocalDateTime lastUpdate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        testTask.setUpdatedAt(lastUpdate);
+        User assignedUser = User.builder().id(2L).email("user2@example.com").username("user2").build();
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(assignedUser));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        
+        // When
+        taskService.assignUserToTask(1L, 2L);
+        LocalDateTime afterAssign = testTask.getUpdatedAt();
+        testTask.setUpdatedAt(lastUpdate);
+        taskService.assignUserToTask(1L, 2L);
+        
+        // Then
+        assertTrue(afterAssign.isAfter(lastUpdate));
+        assertEquals(lastUpdate, testTask.getUpdatedAt());
+    }
+    
+    @Test
+    void unassignUserFromTask_ShouldTouchUpdatedAt() {
+        // Given
+        LocalDateTime lastUpdate = LocalDateTime.of(2024, 1, 1, 0, 0);
+        testTask.setUpdatedAt(lastUpdate);
+        testTask.getAssignedUsers().add(User.builder().id(2L).email("user2@example.com").username("user2").build());
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        
+        // When
+        taskService.unassignUserFromTask(1L, 2L);
+        
+        // Then
+        assertTrue(testTask.getUpdatedAt().isAfter(lastUpdate));
+    }
+    
+    @Test
+    void unassignUserFromTask_ShouldPublishEventForRemovedAssignee() {
+        // Given
+        User assignedUser = User.builder().id(2L).email("user2@example.com").username("user2").build();
+        testTask.getAssignedUsers().add(assignedUser);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask));
+        when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+        ArgumentCaptor<TaskEvent> event = ArgumentCaptor.forClass(TaskEvent.class);
+        
+        // When
+        taskService.unassignUserFromTask(1L, 2L);
+        
+        // Then
+        verify(taskRepository).flush();
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(TaskEvent.Type.UNASSIGNED, event.getValue().getType());
+        assertEquals(2L, event.getValue().getUserId());
+        assertEquals(Set.of(2L), event.getValue().getAssigneeIds());
+        assertTrue(event.getValue().getTask().getAssignedUsers().isEmpty());
+    }
+    
+    @Test
+    void getTasks_ShouldResolveCreatorAndAssigneesFromRows() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(testTask));
-        when(taskRepository.searchByKeyword("Test", pageable)).thenReturn(taskPage);
+        TaskFilter filter = TaskFilter.builder().build();
+        when(taskRepository.findByFilter(filter, pageable, true)).thenReturn(new PageImpl<>(List.of(row(testTask))));
+        when(taskRepository.findAssigneeRows(List.of(1L)))
+            .thenReturn(List.of(new AssigneeRow(1L, 1L)));
+        when(userRepository.findCachedByIds(Set.of(1L))).thenReturn(Map.of(1L, testUser));
         
         // When
-        Page<TaskResponse> response = taskService.searchTasks("Test", pageable);
+        Page<TaskResponse> response = taskService.getTasks(filter, pageable);
         
         // Then
-        assertNotNull(response);
         assertEquals(1, response.getTotalElements());
+        assertEquals(testTask.getTitle(), response.getContent().get(0).getTitle());
+        assertEquals(testUser.getEmail(), response.getContent().get(0).getCreator().getEmail());
+        assertEquals(1, response.getContent().get(0).getAssignedUsers().size());
+        verify(taskRepository, never()).findAllWithAssignedUsers(any());
+    }
+    
+    @Test
+    void getTasks_ShouldReturnUserIdsWithoutLoadingUsersOrDescription() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskFilter filter = TaskFilter.builder().build();
+        TaskRow row = row(testTask);
+        TaskRow withoutDescription = new TaskRow(
+            row.id(), row.title(), null, row.status(), row.priority(), row.dueDate(),
+            row.createdAt(), row.updatedAt(), row.version(), row.creatorId()
+        );
+        when(taskRepository.findByFilter(filter, pageable, false))
+            .thenReturn(new PageImpl<>(List.of(withoutDescription)));
+        when(taskRepository.findAssigneeRows(List.of(1L))).thenReturn(List.of(new AssigneeRow(1L, 2L)));
+        
+        // When
+        Page<TaskResponse> response = taskService.getTasks(
+            filter, pageable, TaskView.parse("title,creator,assignedUsers", "none", null)
+        );
+        
+        // Then
+        TaskResponse task = response.getContent().get(0);
+        assertEquals(1L, task.getCreator().getId());
+        assertNull(task.getCreator().getEmail());
+        assertEquals(Set.of(2L), task.getAssignedUsers().stream().map(UserResponse::getId).collect(Collectors.toSet()));
+        verify(userRepository, never()).findCachedByIds(any());
+    }
+    
+    @Test
+    void getTasks_ShouldSkipAssignmentsWhenNotRequested() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskFilter filter = TaskFilter.builder().build();
+        when(taskRepository.findByFilter(filter, pageable, true)).thenReturn(new PageImpl<>(List.of(row(testTask))));
+        when(userRepository.findCachedByIds(Set.of(1L))).thenReturn(Map.of(1L, testUser));
+        
+        // When
+        Page<TaskResponse> response = taskService.getTasks(
+            filter, pageable, TaskView.parse("description,creator", null, null)
+        );
+        
+        // Then
+        assertEquals(testUser.getEmail(), response.getContent().get(0).getCreator().getEmail());
+        verify(taskRepository, never()).findAssigneeRows(any());
+    }
+    
+    @Test
+    void getTasks_ShouldRejectInvertedDueDateRange() {
+        // Given
+        TaskFilter filter = TaskFilter.builder()
+            .dueFrom(LocalDateTime.of(2030, 2, 1, 0, 0))
+            .dueTo(LocalDateTime.of(2030, 1, 1, 0, 0))
+            .build();
+        
+        // When & Then
+        assertThrows(RuntimeException.class, () -> taskService.getTasks(filter, PageRequest.of(0, 10)));
+        verify(taskRepository, never()).findByFilter(any(), any(), anyBoolean());
+    }
+    
+    @Test
+    void getTasks_ShouldRejectPageSizeAboveCap() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> taskService.getTasks(TaskFilter.builder().build(), PageRequest.of(0, 10000)));
+        assertEquals("La taille de page doit être comprise entre 1 et 100", exception.getMessage());
+        verify(taskRepository, never()).findByFilter(any(), any(), anyBoolean());
+    }
+    
+    @Test
+    void getTasksAfter_ShouldReturnCursorForNextPage() {
+        // Given
+        Task nextTask = Task.builder()
+            .id(2L)
+            .title("Next Task")
+            .creator(testUser)
+            .assignedUsers(new HashSet<>())
+            .createdAt(testTask.getCreatedAt().minusMinutes(1))
+            .updatedAt(LocalDateTime.now())
+            .build();
+        TaskFilter filter = TaskFilter.builder().status(Task.Status.TODO).build();
+        when(taskRepository.findKeysetPage(filter, "createdAt", Sort.Direction.DESC, null, null, 2, true))
+            .thenReturn(new ArrayList<>(List.of(row(testTask), row(nextTask))));
+        when(userRepository.findCachedByIds(Set.of(1L))).thenReturn(Map.of(1L, testUser));
+        
+        // When
+        CursorPage<TaskResponse> page = taskService.getTasksAfter(filter, null, "createdAt", Sort.Direction.DESC, 1);
+        
+        // Then
+        assertTrue(page.isHasNext());
+        assertEquals(1, page.getContent().size());
+        TaskCursor cursor = TaskCursor.decode(page.getNextCursor());
+        assertEquals(testTask.getId(), cursor.id());
+        assertEquals(testTask.getCreatedAt(), cursor.value());
+    }
+    
+    @Test
+    void getTasksAfter_ShouldRejectNonPositiveSize() {
+        // When & Then : une taille nulle demanderait une ligne sentinelle seule, une taille négative un LIMIT invalide
+        for (int size : new int[]{0, -1}) {
+            RuntimeException exception = assertThrows(RuntimeException.class, () -> taskService.getTasksAfter(
+                TaskFilter.builder().build(), null, "createdAt", Sort.Direction.DESC, size));
+            assertEquals("La taille de page doit être comprise entre 1 et 100", exception.getMessage());
+        }
+        verify(taskRepository, never()).findKeysetPage(any(), any(), any(), any(), any(), anyInt(), anyBoolean());
+    }
+    
+    @Test
+    void getTasksAfter_ShouldRejectCursorFromAnotherSort() {
+        // Given
+        String cursor = new TaskCursor("updatedAt", Sort.Direction.DESC, LocalDateTime.now(), 1L).encode();
+        
+        // When & Then
+        assertThrows(RuntimeException.class,
+            () -> taskService.getTasksAfter(TaskFilter.builder().build(), cursor, "createdAt", Sort.Direction.DESC, 10));
+    }
+    
+    private static TaskRow row(Task task) {
+        return new TaskRow(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getDueDate(),
+            task.getCreatedAt(),
+            task.getUpdatedAt(),
+            task.getVersion(),
+            task.getCreator().getId()
+        );
     }
 }
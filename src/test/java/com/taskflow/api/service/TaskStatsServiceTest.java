@@ -0,0 +1,124 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.TaskStatsResponse;
+import com.taskflow.api.entity.Task;
+import com.taskflow.api.entity.TaskCounter;
+import com.taskflow.api.repository.TaskCounterDelta;
+import com.taskflow.api.repository.TaskCounterRepository;
+import com.taskflow.api.repository.projection.TaskCountRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsServiceTest {
+    
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+    
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @InjectMocks
+    private TaskStatsService taskStatsService;
+    
+    @Test
+    void getStats_ShouldSumCountersAndFillMissingCombinations() {
+        // Given
+        when(taskCounterRepository.sumByScope(TaskCounter.Scope.CREATOR, 1L)).thenReturn(List.of(
+            new TaskCountRow(Task.Status.TODO, Task.Priority.HIGH, 2L),
+            new TaskCountRow(Task.Status.DONE, Task.Priority.HIGH, 3L)
+        ));
+        
+        // When
+        TaskStatsResponse stats = taskStatsService.getStats(1L, null);
+        
+        // Then
+        assertEquals("CREATOR", stats.getScope());
+        assertEquals(1L, stats.getUserId());
+        assertEquals(5, stats.getTotal());
+        assertEquals(5L, stats.getByPriority().get("HIGH"));
+        assertEquals(0L, stats.getByPriority().get("LOW"));
+        assertEquals(0L, stats.getByStatus().get("IN_PROGRESS"));
+        assertEquals(3L, stats.getByStatusAndPriority().get("DONE").get("HIGH"));
+        assertEquals(0L, stats.getByStatusAndPriority().get("DONE").get("MEDIUM"));
+    }
+    
+    @Test
+    void getStats_ShouldRejectCreatorAndAssigneeTogether() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> taskStatsService.getStats(1L, 2L));
+        assertEquals("Choisir un créateur ou un assigné, pas les deux", exception.getMessage());
+        verifyNoInteractions(taskCounterRepository);
+    }
+    
+    @Test
+    void reconcile_ShouldApplyOnlyTheDrift() {
+        // Given
+        TaskCounterDelta counted = new TaskCounterDelta().add(Task.Status.TODO, Task.Priority.LOW, 1L, Set.of(2L), 4);
+        TaskCounterDelta stored = new TaskCounterDelta().add(Task.Status.TODO, Task.Priority.LOW, 1L, Set.of(), 4);
+        stored.add(new TaskCounterDelta.Key(TaskCounter.Scope.CREATOR, 9L, Task.Status.DONE, Task.Priority.LOW), 1);
+        when(taskCounterRepository.tryLockReconciliation()).thenReturn(true);
+        when(taskCounterRepository.countTasks(null)).thenReturn(counted);
+        when(taskCounterRepository.sumCounters()).thenReturn(stored);
+        ArgumentCaptor<TaskCounterDelta> applied = ArgumentCaptor.forClass(TaskCounterDelta.class);
+        
+        // When
+        int corrected = taskStatsService.reconcile();
+        
+        // Then
+        assertEquals(2, corrected);
+        verify(taskCounterRepository).apply(applied.capture());
+        assertEquals(Map.of(
+            new TaskCounterDelta.Key(TaskCounter.Scope.ASSIGNEE, 2L, Task.Status.TODO, Task.Priority.LOW), 4L,
+            new TaskCounterDelta.Key(TaskCounter.Scope.CREATOR, 9L, Task.Status.DONE, Task.Priority.LOW), -1L
+        ), applied.getValue().entries());
+        assertEquals(2.0, meterRegistry.counter("taskflow.stats.drift").count());
+    }
+    
+    @Test
+    void reconcile_ShouldNotWriteWhenCountersMatch() {
+        // Given
+        when(taskCounterRepository.tryLockReconciliation()).thenReturn(true);
+        when(taskCounterRepository.countTasks(null))
+            .thenReturn(new TaskCounterDelta().add(Task.Status.DONE, Task.Priority.HIGH, 1L, Set.of(), 1));
+        when(taskCounterRepository.sumCounters())
+            .thenReturn(new TaskCounterDelta().add(Task.Status.DONE, Task.Priority.HIGH, 1L, Set.of(), 1));
+        
+        // When
+        int corrected = taskStatsService.reconcile();
+        
+        // Then
+        assertEquals(0, corrected);
+        verify(taskCounterRepository, never()).apply(any());
+    }
+    
+    @Test
+    void reconcile_ShouldSkipWhenAnotherInstanceHoldsTheLock() {
+        // Given
+        when(taskCounterRepository.tryLockReconciliation()).thenReturn(false);
+        
+        // When
+        int corrected = taskStatsService.reconcile();
+        
+        // Then
+        assertEquals(0, corrected);
+        verify(taskCounterRepository, never()).countTasks(any());
+        verify(taskCounterRepository, never()).apply(any());
+        assertEquals(1.0, meterRegistry.counter("taskflow.stats.reconcile.skipped").count());
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskflow.api.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.taskflow.api.repository.OutboxRepository;
+import com.taskflow.api.repository.projection.OutboxDelivery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDispatcherTest {
+    
+    @Mock
+    private OutboxRepository outboxRepository;
+    
+    private HttpServer server;
+    private final Map<String, String> signatures = new ConcurrentHashMap<>();
+    private final Map<String, String> bodies = new ConcurrentHashMap<>();
+    private WebhookDispatcher dispatcher;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ok", exchange -> {
+            String delivery = exchange.getRequestHeaders().getFirst("X-Taskflow-Delivery");
+            signatures.put(delivery, exchange.getRequestHeaders().getFirst(WebhookDispatcher.SIGNATURE_HEADER));
+            bodies.put(delivery, new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/fail", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        server.start();
+        
+        dispatcher = new WebhookDispatcher(
+            outboxRepository, new SimpleMeterRegistry(),
+            10, 2, Duration.ofMinutes(1), Duration.ofSeconds(5), 3, Duration.ofSeconds(5), Duration.ofSeconds(15)
+        );
+    }
+    
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+        server.stop(0);
+    }
+    
+    @Test
+    void dispatch_ShouldDeleteAcceptedDeliveriesAndSignPayload() {
+        // Given
+        when(outboxRepository.claim(eq(10), any())).thenReturn(List.of(
+            delivery(1L, "/ok", 0),
+            delivery(2L, "/ok", 0),
+            delivery(3L, "/ok", 0)
+        ));
+        
+        // When
+        int attempted = dispatcher.dispatch();
+        
+        // Then
+        assertEquals(3, attempted);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(outboxRepository, never()).markFailed(anyLong(), anyInt(), any(), any(), any());
+        assertEquals("{\"taskId\":7}", bodies.get("1"));
+        assertEquals("sha256=" + WebhookDispatcher.sign("secret", "{\"taskId\":7}"), signatures.get("1"));
+    }
+    
+    @Test
+    void dispatch_ShouldRescheduleFailedDeliveriesWithBackoff() {
+        // Given
+        when(outboxRepository.claim(eq(10), any())).thenReturn(List.of(
+            delivery(1L, "/fail", 1),
+            delivery(2L, "/ok", 0)
+        ));
+        ArgumentCaptor<LocalDateTime> nextAttempt = ArgumentCaptor.forClass(LocalDateTime.class);
+        LocalDateTime before = LocalDateTime.now();
+        
+        // When
+        dispatcher.dispatch();
+        
+        // Then
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(2L));
+        verify(outboxRepository).markFailed(eq(1L), eq(2), nextAttempt.capture(), isNull(), eq("HTTP 503"));
+        assertFalse(nextAttempt.getValue().isBefore(before.plusSeconds(10)));
+    }
+    
+    @Test
+    void poll_ShouldReturnBeforeDeliveriesCompleteAndSkipWhileBusy() {
+        // Given
+        when(outboxRepository.claim(eq(10), any())).thenReturn(List.of(delivery(1L, "/slow", 0)));
+        long start = System.nanoTime();
+        
+        // When
+        dispatcher.poll();
+        dispatcher.poll();
+        
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(250)) < 0);
+        verify(outboxRepository, timeout(5000)).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxRepository, times(1)).claim(eq(10), any());
+    }
+    
+    @Test
+    void dispatch_ShouldGiveUpAfterMaxAttempts() {
+        // Given
+        when(outboxRepository.claim(eq(10), any())).thenReturn(List.of(delivery(1L, "/fail", 2)));
+        
+        // When
+        dispatcher.dispatch();
+        
+        // Then
+        verify(outboxRepository).markFailed(eq(1L), eq(3), any(), notNull(), eq("HTTP 503"));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(any());
+    }
+    
+    @Test
+    void backoff_ShouldDoubleUpToMaximum() {
+        assertEquals(Duration.ofSeconds(5), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(10), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(15), dispatcher.backoff(3));
+        assertEquals(Duration.ofSeconds(15), dispatcher.backoff(40));
+    }
+    
+    private OutboxDelivery delivery(Long id, String path, int attempts) {
+        String url = "http://localhost:" + server.getAddress().getPort() + path;
+        return new OutboxDelivery(id, 7L, "UPDATED", "{\"taskId\":7}", attempts, url, "secret");
+    }
+}
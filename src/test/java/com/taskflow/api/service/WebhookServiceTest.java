@@ -0,0 +1,55 @@
+package com.taskflow.api.service;
+
+import com.taskflow.api.dto.WebhookRequest;
+import com.taskflow.api.dto.WebhookResponse;
+import com.taskflow.api.entity.Webhook;
+import com.taskflow.api.repository.WebhookRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookServiceTest {
+    
+    @Mock
+    private WebhookRepository webhookRepository;
+    
+    @InjectMocks
+    private WebhookService webhookService;
+    
+    @Test
+    void createWebhook_ShouldGenerateSecretAndReturnItOnce() {
+        // Given
+        when(webhookRepository.save(any(Webhook.class))).thenAnswer(invocation -> {
+            Webhook webhook = invocation.getArgument(0);
+            webhook.setId(1L);
+            return webhook;
+        });
+        
+        // When
+        WebhookResponse created = webhookService.createWebhook(new WebhookRequest("https://example.com/hook"));
+        
+        // Then
+        assertEquals(64, created.getSecret().length());
+        when(webhookRepository.findAll()).thenReturn(List.of(Webhook.builder()
+            .id(1L).url("https://example.com/hook").secret(created.getSecret()).build()));
+        assertNull(webhookService.getWebhooks().get(0).getSecret());
+    }
+    
+    @Test
+    void createWebhook_ShouldRejectNonHttpUrl() {
+        // When & Then
+        RuntimeException exception = assertThrows(RuntimeException.class,
+            () -> webhookService.createWebhook(new WebhookRequest("file:///etc/passwd")));
+        assertEquals("URL de webhook invalide : file:///etc/passwd", exception.getMessage());
+        verifyNoInteractions(webhookRepository);
+    }
+}